@@ -0,0 +1,57 @@
+package com.zekret.configuration;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.jboss.logging.Logger;
+
+import com.zekret.exception.UnauthorizedException;
+import com.zekret.service.IJWTService;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.json.JsonNumber;
+
+/**
+ * Identity of the user behind the current request.
+ * 
+ * The values are read from the verified JsonWebToken, so resolving the
+ * authenticated user never needs a database query.
+ */
+@RequestScoped
+public class AuthenticatedUser {
+    private static final Logger LOG = Logger.getLogger(AuthenticatedUser.class);
+
+    private final JsonWebToken jwt;
+    private Long id;
+
+    public AuthenticatedUser(JsonWebToken jwt) {
+        this.jwt = jwt;
+    }
+
+    /**
+     * Get the ID of the authenticated user (uid claim).
+     */
+    public Long getId() {
+        if (id == null) {
+            id = readUserId();
+        }
+        return id;
+    }
+
+    /**
+     * Get the email of the authenticated user (upn claim).
+     */
+    public String getEmail() {
+        return jwt.getName();
+    }
+
+    private Long readUserId() {
+        Object userId = jwt.getClaim(IJWTService.USER_ID_CLAIM);
+        if (userId instanceof JsonNumber jsonNumber) {
+            return jsonNumber.longValue();
+        }
+        if (userId instanceof Number number) {
+            return number.longValue();
+        }
+        LOG.warnf("Token for user %s does not carry the %s claim.", jwt.getName(), IJWTService.USER_ID_CLAIM);
+        throw new UnauthorizedException("Invalid token.");
+    }
+}
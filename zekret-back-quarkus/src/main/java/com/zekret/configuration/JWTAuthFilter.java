@@ -3,50 +3,53 @@ package com.zekret.configuration;
 import java.io.IOException;
 import java.time.Instant;
 
+import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
-import com.zekret.exception.InternalServerException;
 import com.zekret.exception.UnauthorizedException;
-import com.zekret.model.Token;
-import com.zekret.repository.TokenRepository;
+import com.zekret.service.IJWTService;
+import com.zekret.service.ITokenRevocationService;
 
 import io.quarkus.security.identity.SecurityIdentity;
-import io.smallrye.jwt.auth.principal.JWTCallerPrincipal;
-import io.smallrye.jwt.auth.principal.JWTParser;
-import io.smallrye.jwt.auth.principal.ParseException;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.json.JsonNumber;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.container.ContainerRequestFilter;
 import jakarta.ws.rs.ext.Provider;
 
+/**
+ * Checks that an authenticated request carries a token of the user's current generation.
+ * 
+ * The signature has already been verified by SmallRye JWT when this filter runs,
+ * so the claims are read from the injected JsonWebToken instead of parsing the
+ * bearer token again.
+ */
 @Provider
 @Priority(Priorities.AUTHENTICATION)
 @ApplicationScoped
 public class JWTAuthFilter implements ContainerRequestFilter {
     private static final Logger LOG = Logger.getLogger(JWTAuthFilter.class);
 
-    private final TokenRepository tokenRepository;
+    private final ITokenRevocationService tokenRevocationService;
     private final SecurityIdentity securityIdentity;
-    private final JWTParser jwtParser;
+    private final JsonWebToken jwt;
 
-    public JWTAuthFilter(TokenRepository tokenRepository, SecurityIdentity securityIdentity, JWTParser jwtParser) {
-        this.tokenRepository = tokenRepository;
+    public JWTAuthFilter(ITokenRevocationService tokenRevocationService, SecurityIdentity securityIdentity, JsonWebToken jwt) {
+        this.tokenRevocationService = tokenRevocationService;
         this.securityIdentity = securityIdentity;
-        this.jwtParser = jwtParser;
+        this.jwt = jwt;
     }
 
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
-        LOG.info("JWTAuthFilter invoked for request: " + requestContext.getUriInfo().getRequestUri().toString());
-        
         if (securityIdentity.isAnonymous()) {
-            LOG.info("Request is anonymous, skipping JWT validation.");
+            LOG.debug("Request is anonymous, skipping JWT validation.");
             return;
         }
 
-        LOG.info("Validating JWT token for user: " + securityIdentity.getPrincipal().getName());
+        LOG.debugf("Validating JWT token for user: %s", securityIdentity.getPrincipal().getName());
         String authHeader = requestContext.getHeaderString("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -54,54 +57,46 @@ public class JWTAuthFilter implements ContainerRequestFilter {
             throw new UnauthorizedException("Missing or invalid Authorization header.");
         }
 
-        String token = authHeader.substring("Bearer ".length()).trim();
-        Token storedToken = tokenRepository.findByAccessToken(token)
-                                .orElseThrow(() -> {
-                                    LOG.warn("Token not found in repository.");
-                                    return new IOException("Invalid token.");
-                                });
-
-        if(storedToken.isLoggedOut()) {
+        Integer generation = getGeneration(jwt);
+        if (generation == null || !tokenRevocationService.isCurrentGeneration(jwt.getName(), generation)) {
             LOG.warn("Invalid or logged out token.");
             throw new UnauthorizedException("Invalid or logged out token.");
         }
 
-        if (isExpired(token)) {
+        if (isExpired(jwt)) {
             LOG.warn("Token has expired.");
             throw new UnauthorizedException("Token has expired.");
         }
     }
 
     /**
-     * Check if the token is expired.
+     * Get the token generation (gen claim) of the token.
      */
-    public boolean isExpired(String token) {
-        Instant exp = getExpiration(token);
-        return exp != null && Instant.now().isAfter(exp);
+    public Integer getGeneration(JsonWebToken token) {
+        Object generation = token.getClaim(IJWTService.GENERATION_CLAIM);
+        if (generation instanceof JsonNumber jsonNumber) {
+            return jsonNumber.intValue();
+        }
+        if (generation instanceof Number number) {
+            return number.intValue();
+        }
+        return null;
     }
 
     /**
-     * Get the expiration time of the token.
+     * Check if the token is expired.
      */
-    public Instant getExpiration(String token) {
-        JWTCallerPrincipal principal = parseToken(token);
-        Object exp = principal.getClaim("exp");
-        if (exp instanceof Long aLong) {
-            return Instant.ofEpochSecond(aLong);
-        }
-        return null;
+    public boolean isExpired(JsonWebToken token) {
+        Instant exp = getExpiration(token);
+        return exp != null && Instant.now().isAfter(exp);
     }
 
     /**
-     * Parse a token and return the principal.
+     * Get the expiration time of the token.
      */
-    private JWTCallerPrincipal parseToken(String token) {
-        LOG.info("Parsing token in JWTAuthFilter.");
-        try {
-            return (JWTCallerPrincipal) jwtParser.parse(token);
-        } catch (ParseException e) {
-            throw new InternalServerException("Invalid JWT token", e);
-        }
+    public Instant getExpiration(JsonWebToken token) {
+        long exp = token.getExpirationTime();
+        return exp > 0 ? Instant.ofEpochSecond(exp) : null;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+package com.zekret.configuration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.zekret.service.IRateLimiterService;
+import com.zekret.service.IRateLimiterService.RouteClass;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.vertx.core.http.HttpServerRequest;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Rate limits the authentication endpoints per client IP and the write endpoints per user.
+ * 
+ * It runs before JWTAuthFilter so rejected requests never reach BCrypt or the database.
+ * A rejection is answered with a precomputed 429 body and no exception is thrown.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION - 10)
+@ApplicationScoped
+public class RateLimitFilter implements ContainerRequestFilter {
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+        "{\"status\":429,\"error\":\"Too Many Requests\",\"message\":\"Rate limit exceeded, please retry later\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final String[] AUTH_PATHS = { "/v1/auth/login", "/v1/auth/refresh", "/v1/users/register" };
+    private static final String[] WRITE_PATHS = { "/v1/namespaces", "/v1/credentials" };
+
+    private final IRateLimiterService rateLimiterService;
+    private final SecurityIdentity securityIdentity;
+
+    @ConfigProperty(name = "rate-limit.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Context
+    HttpServerRequest httpRequest;
+
+    public RateLimitFilter(IRateLimiterService rateLimiterService, SecurityIdentity securityIdentity) {
+        this.rateLimiterService = rateLimiterService;
+        this.securityIdentity = securityIdentity;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        String path = requestContext.getUriInfo().getPath();
+        long waitNanos;
+
+        if (startsWithAny(path, AUTH_PATHS)) {
+            waitNanos = rateLimiterService.tryAcquire(RouteClass.AUTH, clientAddress());
+        } else if (isWrite(requestContext.getMethod()) && startsWithAny(path, WRITE_PATHS)) {
+            String key = securityIdentity.isAnonymous() ? clientAddress() : securityIdentity.getPrincipal().getName();
+            waitNanos = rateLimiterService.tryAcquire(RouteClass.WRITE, key);
+        } else {
+            return;
+        }
+
+        if (waitNanos > 0) {
+            requestContext.abortWith(Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .header("Retry-After", Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1))
+                .type(MediaType.APPLICATION_JSON_TYPE)
+                .entity(TOO_MANY_REQUESTS_BODY)
+                .build());
+        }
+    }
+
+    /**
+     * Client address of the request. Behind nginx this is the forwarded client address,
+     * resolved by Quarkus from X-Forwarded-For only when the request comes from a trusted proxy.
+     */
+    private String clientAddress() {
+        return httpRequest != null && httpRequest.remoteAddress() != null
+            ? httpRequest.remoteAddress().hostAddress()
+            : "unknown";
+    }
+
+    private static boolean isWrite(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method);
+    }
+
+    private static boolean startsWithAny(String path, String[] prefixes) {
+        for (String prefix : prefixes) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
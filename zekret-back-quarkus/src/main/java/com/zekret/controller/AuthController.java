@@ -4,12 +4,15 @@ import org.jboss.logging.Logger;
 
 import com.zekret.dto.APIResponseDTO;
 import com.zekret.dto.AuthResponseDTO;
+import com.zekret.dto.RefreshTokenRequestDTO;
 import com.zekret.service.IAuthService;
 
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
+import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
@@ -45,6 +48,24 @@ public class AuthController {
         )).build();
     }
 
+    /**
+     * Endpoint to exchange a refresh token for a new pair of tokens
+     */
+    @POST
+    @Path("/refresh")
+    @PermitAll
+    public Response refresh(@Valid RefreshTokenRequestDTO request) {
+        LOG.debug("Refresh token attempt");
+
+        AuthResponseDTO authResponse = authService.refresh(request.refresh_token());
+
+        return Response.ok(APIResponseDTO.success(
+            authResponse.message(),
+            authResponse,
+            Response.Status.OK.getStatusCode()
+        )).build();
+    }
+
     /**
      * Endpoint for logout
      */
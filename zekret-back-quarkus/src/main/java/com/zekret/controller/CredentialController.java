@@ -1,28 +1,38 @@
 package com.zekret.controller;
 
-import java.util.List;
+import java.io.InputStream;
 
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.zekret.configuration.AuthenticatedUser;
 import com.zekret.dto.APIResponseDTO;
+import com.zekret.dto.CredentialFileDTO;
 import com.zekret.dto.CredentialRequestDTO;
 import com.zekret.dto.CredentialResponseDTO;
+import com.zekret.dto.CredentialSummaryDTO;
+import com.zekret.dto.KeysetPageDTO;
+import com.zekret.service.ICredentialFileService;
 import com.zekret.service.ICredentialService;
+import com.zekret.util.KeysetCursor;
+import com.zekret.util.StreamingJson;
 
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
-import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 
 @Path("/v1/credentials")
 @Produces(MediaType.APPLICATION_JSON)
@@ -31,9 +41,15 @@ public class CredentialController {
     private static final Logger LOG = Logger.getLogger(CredentialController.class.getName());
 
     private final ICredentialService credentialService;
+    private final ICredentialFileService credentialFileService;
+    private final AuthenticatedUser authenticatedUser;
+    private final ObjectMapper objectMapper;
 
-    public CredentialController(ICredentialService credentialService) {
+    public CredentialController(ICredentialService credentialService, ICredentialFileService credentialFileService, AuthenticatedUser authenticatedUser, ObjectMapper objectMapper) {
         this.credentialService = credentialService;
+        this.credentialFileService = credentialFileService;
+        this.authenticatedUser = authenticatedUser;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -41,12 +57,12 @@ public class CredentialController {
      */
     @POST
     @RolesAllowed("user")
-    public Response createCredential(@Context SecurityContext securityContext, @Valid CredentialRequestDTO credentialRequestDTO) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response createCredential(@Valid CredentialRequestDTO credentialRequestDTO) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Creating credential for user: %s", username);
 
-        CredentialResponseDTO createdCredential = credentialService.registerCredential(username, credentialRequestDTO);
+        CredentialResponseDTO createdCredential = credentialService.registerCredential(authenticatedUser.getId(), credentialRequestDTO);
 
         return Response.ok(
             APIResponseDTO.success(
@@ -63,12 +79,12 @@ public class CredentialController {
     @PUT
     @Path("/{zrn}")
     @RolesAllowed("user")
-    public Response updateCredential(@Context SecurityContext securityContext, @PathParam("zrn") String zrn, @Valid CredentialRequestDTO credentialRequestDTO) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response updateCredential(@PathParam("zrn") String zrn, @Valid CredentialRequestDTO credentialRequestDTO) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Updating credential %s for user: %s", zrn, username);
 
-        CredentialResponseDTO updatedCredential = credentialService.updateCredential(username, zrn, credentialRequestDTO);
+        CredentialResponseDTO updatedCredential = credentialService.updateCredential(authenticatedUser.getId(), zrn, credentialRequestDTO);
 
         return Response.ok(
             APIResponseDTO.success(
@@ -85,12 +101,12 @@ public class CredentialController {
     @GET
     @Path("/{zrn}")
     @RolesAllowed("user")
-    public Response getCredential(@Context SecurityContext securityContext,@PathParam("zrn") String zrn) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response getCredential(@PathParam("zrn") String zrn) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Getting credential %s for user: %s", zrn, username);
 
-        CredentialResponseDTO credential = credentialService.getCredentialByZrnAndUserEmail(zrn, username);
+        CredentialResponseDTO credential = credentialService.getCredentialByZrnAndUserId(zrn, authenticatedUser.getId());
         return Response.ok(
             APIResponseDTO.success(
                 "Credential retrieved successfully.",
@@ -101,19 +117,71 @@ public class CredentialController {
     }
 
     /**
-     * Endpoint to list all credentials for the authenticated user and namespace.
+     * Endpoint to upload the file of a credential as raw bytes.
+     * The body is streamed into the database in chunks, so it is never held in memory.
+     */
+    @PUT
+    @Path("/{zrn}/file")
+    @Consumes(MediaType.APPLICATION_OCTET_STREAM)
+    @RolesAllowed("user")
+    public Response uploadFile(@PathParam("zrn") String zrn, @QueryParam("fileName") String fileName, InputStream content) {
+        String username = authenticatedUser.getEmail();
+
+        LOG.infof("Uploading file of credential %s for user: %s", zrn, username);
+
+        CredentialFileDTO file = credentialFileService.uploadFile(authenticatedUser.getId(), zrn, fileName, content);
+
+        return Response.ok(
+            APIResponseDTO.success(
+                "File uploaded successfully.",
+                file,
+                Response.Status.OK.getStatusCode()
+            )
+        ).build();
+    }
+
+    /**
+     * Endpoint to download the file of a credential as raw bytes, streamed chunk by chunk.
+     */
+    @GET
+    @Path("/{zrn}/file")
+    @RolesAllowed("user")
+    public Response downloadFile(@PathParam("zrn") String zrn) {
+        String username = authenticatedUser.getEmail();
+        Long userId = authenticatedUser.getId();
+
+        LOG.infof("Downloading file of credential %s for user: %s", zrn, username);
+
+        // Resolved before streaming so a missing file is still answered with a JSON 404.
+        // No Content-Length: the file may be replaced before writeFile reads its own snapshot
+        CredentialFileDTO file = credentialFileService.getFile(zrn, userId);
+        StreamingOutput body = output -> credentialFileService.writeFile(zrn, userId, output);
+
+        String fileName = file.fileName() != null ? file.fileName().replaceAll("[\"\\r\\n]", "_") : "file";
+        return Response.ok(body)
+            .type(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+            .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"")
+            .build();
+    }
+
+    /**
+     * Endpoint to list a page of credential summaries for the authenticated user and namespace.
+     * Secrets are not included; fetch a single credential by zrn for the full payload.
+     * Pass the returned nextCursor as "after" to fetch the following page.
      */
     @GET
     @Path("/namespace/{namespaceZrn}")
     @RolesAllowed("user")
-    public Response listCredentials(@Context SecurityContext securityContext, @PathParam("namespaceZrn") String namespaceZrn) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response listCredentials(@PathParam("namespaceZrn") String namespaceZrn,
+                                    @QueryParam("after") String after,
+                                    @QueryParam("limit") @DefaultValue("" + KeysetCursor.DEFAULT_LIMIT) int limit) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Listing credentials for namespace %s and user: %s", namespaceZrn, username);
 
-        List<CredentialResponseDTO> credentials = credentialService.getCredentialsByNamespaceAndUserId(namespaceZrn, username);
+        KeysetPageDTO<CredentialSummaryDTO> credentials = credentialService.getCredentialsByNamespaceAndUserId(namespaceZrn, authenticatedUser.getId(), after, limit);
         return Response.ok(
-            APIResponseDTO.success(
+            APIResponseDTO.page(
                 "Credentials listed successfully.",
                 credentials,
                 Response.Status.OK.getStatusCode()
@@ -121,18 +189,42 @@ public class CredentialController {
         ).build();
     }
 
+    /**
+     * Endpoint to list every credential summary of a namespace in a single response.
+     * The response is streamed from a database cursor, so its size does not affect memory use.
+     */
+    @GET
+    @Path("/namespace/{namespaceZrn}/all")
+    @RolesAllowed("user")
+    public Response listAllCredentials(@PathParam("namespaceZrn") String namespaceZrn) {
+        String username = authenticatedUser.getEmail();
+        Long userId = authenticatedUser.getId();
+
+        LOG.infof("Streaming credentials for namespace %s and user: %s", namespaceZrn, username);
+
+        StreamingOutput body = output -> StreamingJson.writeSuccess(
+            objectMapper,
+            output,
+            "Credentials listed successfully.",
+            Response.Status.OK.getStatusCode(),
+            generator -> credentialService.writeCredentialsByNamespaceAndUserId(namespaceZrn, userId, generator)
+        );
+
+        return Response.ok(body).build();
+    }
+
     /**
      * Endpoint to delete a credential by zrn.
      */
     @DELETE
     @Path("/{zrn}")
     @RolesAllowed("user")
-    public Response deleteCredential(@Context SecurityContext securityContext, @PathParam("zrn") String zrn) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response deleteCredential(@PathParam("zrn") String zrn) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Deleting credential %s for user: %s", zrn, username);
 
-        credentialService.deleteCredentialByZrnAndUserEmail(zrn, username);
+        credentialService.deleteCredentialByZrnAndUserId(zrn, authenticatedUser.getId());
     
         return Response.ok(
             APIResponseDTO.success(
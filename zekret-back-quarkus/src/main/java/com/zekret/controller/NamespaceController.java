@@ -1,13 +1,15 @@
 package com.zekret.controller;
 
-import java.util.List;
-
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.zekret.configuration.AuthenticatedUser;
 import com.zekret.dto.APIResponseDTO;
 import com.zekret.dto.NamespaceRequestDTO;
 import com.zekret.dto.NamespaceResponseDTO;
 import com.zekret.service.INamespaceService;
+import com.zekret.util.StreamingJson;
 
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.validation.Valid;
@@ -19,10 +21,9 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
-import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 
 @Path("/v1/namespaces")
 @Produces(MediaType.APPLICATION_JSON)
@@ -31,9 +32,13 @@ public class NamespaceController {
     private static final Logger LOG = Logger.getLogger(NamespaceController.class.getName());
 
     private final INamespaceService namespaceService;
+    private final AuthenticatedUser authenticatedUser;
+    private final ObjectMapper objectMapper;
 
-    public NamespaceController(INamespaceService namespaceService) {
+    public NamespaceController(INamespaceService namespaceService, AuthenticatedUser authenticatedUser, ObjectMapper objectMapper) {
         this.namespaceService = namespaceService;
+        this.authenticatedUser = authenticatedUser;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -41,12 +46,12 @@ public class NamespaceController {
      */
     @POST
     @RolesAllowed("user")
-    public Response createNamespace(@Context SecurityContext securityContext, @Valid NamespaceRequestDTO namespaceRequest) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response createNamespace(@Valid NamespaceRequestDTO namespaceRequest) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Creating namespace for user: %s", username);
 
-        NamespaceResponseDTO createdNamespace = namespaceService.registerNamespace(username, namespaceRequest);
+        NamespaceResponseDTO createdNamespace = namespaceService.registerNamespace(authenticatedUser.getId(), namespaceRequest);
 
         return Response.ok(
             APIResponseDTO.success(
@@ -63,12 +68,12 @@ public class NamespaceController {
     @PUT
     @Path("/{zrn}")
     @RolesAllowed("user")
-    public Response updateNamespace(@Context SecurityContext securityContext, @PathParam("zrn") String zrn, @Valid NamespaceRequestDTO namespaceRequest) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response updateNamespace(@PathParam("zrn") String zrn, @Valid NamespaceRequestDTO namespaceRequest) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Updating namespace with ZRN: %s for user: %s", zrn, username);
 
-        NamespaceResponseDTO updatedNamespace = namespaceService.updateNamespace(username, zrn, namespaceRequest);
+        NamespaceResponseDTO updatedNamespace = namespaceService.updateNamespace(authenticatedUser.getId(), zrn, namespaceRequest);
 
         return Response.ok(
             APIResponseDTO.success(
@@ -85,12 +90,12 @@ public class NamespaceController {
     @GET
     @Path("/{zrn}")
     @RolesAllowed("user")
-    public Response getNamespace(@Context SecurityContext securityContext, @PathParam("zrn") String zrn) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response getNamespace(@PathParam("zrn") String zrn) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Getting namespace with ZRN: %s for user: %s", zrn, username);
 
-        NamespaceResponseDTO namespace = namespaceService.getNamespaceByZrnAndUserEmail(zrn, username);
+        NamespaceResponseDTO namespace = namespaceService.getNamespaceByZrnAndUserId(zrn, authenticatedUser.getId());
 
         return Response.ok(
             APIResponseDTO.success(
@@ -103,23 +108,25 @@ public class NamespaceController {
 
     /**
      * Endpoint to list all namespaces.
+     * The response is streamed from a database cursor, so it is never held in memory as a whole.
      */
     @GET
     @RolesAllowed("user")
-    public Response listNamespaces(@Context SecurityContext securityContext) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response listNamespaces() {
+        String username = authenticatedUser.getEmail();
+        Long userId = authenticatedUser.getId();
 
         LOG.infof("Listing namespaces for user: %s", username);
 
-        List<NamespaceResponseDTO> namespaces = namespaceService.getNamespacesByUserEmail(username);
+        StreamingOutput body = output -> StreamingJson.writeSuccess(
+            objectMapper,
+            output,
+            "Namespaces retrieved successfully.",
+            Response.Status.OK.getStatusCode(),
+            generator -> namespaceService.writeNamespacesByUserId(userId, generator)
+        );
 
-        return Response.ok(
-            APIResponseDTO.success(
-                "Namespaces retrieved successfully.",
-                namespaces,
-                Response.Status.OK.getStatusCode()
-            )
-        ).build();
+        return Response.ok(body).build();
     }
 
     /**
@@ -128,12 +135,12 @@ public class NamespaceController {
     @DELETE
     @Path("/{zrn}")
     @RolesAllowed("user")
-    public Response deleteNamespace(@Context SecurityContext securityContext, @PathParam("zrn") String zrn) {
-        String username = securityContext.getUserPrincipal().getName();
+    public Response deleteNamespace(@PathParam("zrn") String zrn) {
+        String username = authenticatedUser.getEmail();
 
         LOG.infof("Deleting namespace with ZRN: %s for user: %s", zrn, username);
 
-        namespaceService.deleteNamespaceByZrnAndUserEmail(zrn, username);
+        namespaceService.deleteNamespaceByZrnAndUserId(zrn, authenticatedUser.getId());
 
         return Response.ok(
             APIResponseDTO.success(
@@ -1,7 +1,10 @@
 package com.zekret.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RegisterForReflection
 public record APIResponseDTO<T>(
@@ -9,13 +12,19 @@ public record APIResponseDTO<T>(
     String message,
     T data,
     int statusCode,
-    LocalDateTime timestamp
+    LocalDateTime timestamp,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor
 ) {
     public static <T> APIResponseDTO<T> success(String message, T data, int statusCode) {
-        return new APIResponseDTO<>(true, message, data, statusCode, LocalDateTime.now());
+        return new APIResponseDTO<>(true, message, data, statusCode, LocalDateTime.now(), null);
+    }
+
+    public static <T> APIResponseDTO<List<T>> page(String message, KeysetPageDTO<T> page, int statusCode) {
+        return new APIResponseDTO<>(true, message, page.items(), statusCode, LocalDateTime.now(), page.nextCursor());
     }
 
     public static <T> APIResponseDTO<T> error(String message, int statusCode) {
-        return new APIResponseDTO<>(false, message, null, statusCode, LocalDateTime.now());
+        return new APIResponseDTO<>(false, message, null, statusCode, LocalDateTime.now(), null);
     }
-}
\ No newline at end of file
+}
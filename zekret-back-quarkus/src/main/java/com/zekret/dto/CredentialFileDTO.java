@@ -0,0 +1,9 @@
+package com.zekret.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+@RegisterForReflection
+public record CredentialFileDTO (
+    String fileName,
+    Long fileSize
+) {}
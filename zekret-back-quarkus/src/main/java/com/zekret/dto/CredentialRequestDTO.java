@@ -16,7 +16,6 @@ public record CredentialRequestDTO (
     String sshPrivateKey,
     String secretText,
     String fileName,
-    String fileContent,
     String notes,
 
     @NotBlank(message="Credential Type ZRN is mandatory")
@@ -13,7 +13,7 @@ public record CredentialResponseDTO (
     String sshPrivateKey,
     String secretText,
     String fileName,
-    String fileContent,
+    Long fileSize,
     String notes,
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
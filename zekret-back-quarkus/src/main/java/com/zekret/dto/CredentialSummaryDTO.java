@@ -0,0 +1,36 @@
+package com.zekret.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import java.time.LocalDateTime;
+
+/**
+ * Vista reducida de una credencial para los listados.
+ *
+ * Solo contiene columnas escalares; los secretos y las columnas TEXT (claves SSH,
+ * contenido de fichero, notas) se obtienen únicamente con GET /v1/credentials/{zrn}.
+ * El id y el ZRN del namespace se usan internamente (cursor y agrupación) y no se serializan.
+ */
+@RegisterForReflection
+public record CredentialSummaryDTO (
+    @JsonIgnore
+    Long id,
+    String zrn,
+    String title,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    CredentialTypeResponseDTO credentialType,
+    @JsonIgnore
+    String namespaceZrn
+) {
+    /**
+     * Constructor plano para las proyecciones JPQL "select new"
+     */
+    public CredentialSummaryDTO(Long id, String zrn, String title, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                String credentialTypeZrn, String credentialTypeName, String namespaceZrn) {
+        this(id, zrn, title, createdAt, updatedAt,
+             credentialTypeZrn != null ? new CredentialTypeResponseDTO(credentialTypeZrn, credentialTypeName) : null,
+             namespaceZrn);
+    }
+}
@@ -0,0 +1,12 @@
+package com.zekret.dto;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+
+/**
+ * Una página de un listado paginado por keyset y el cursor de la siguiente, si la hay.
+ */
+@RegisterForReflection
+public record KeysetPageDTO<T>(List<T> items, String nextCursor) {
+}
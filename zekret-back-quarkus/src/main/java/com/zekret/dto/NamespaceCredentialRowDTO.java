@@ -0,0 +1,37 @@
+package com.zekret.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import java.time.LocalDateTime;
+
+/**
+ * Fila del listado de namespaces en streaming: un namespace junto a una de sus credenciales.
+ *
+ * Las filas llegan ordenadas por namespace y credencial, así que los namespaces se escriben
+ * a medida que cambia namespaceId. Un namespace sin credenciales produce una única fila con
+ * credential a null. No se serializa directamente.
+ */
+@RegisterForReflection
+public record NamespaceCredentialRowDTO (
+    Long namespaceId,
+    String name,
+    String zrn,
+    String description,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    CredentialSummaryDTO credential
+) {
+    /**
+     * Constructor plano para las proyecciones JPQL "select new"
+     */
+    public NamespaceCredentialRowDTO(Long namespaceId, String name, String zrn, String description,
+                                     LocalDateTime createdAt, LocalDateTime updatedAt,
+                                     Long credentialId, String credentialZrn, String credentialTitle,
+                                     LocalDateTime credentialCreatedAt, LocalDateTime credentialUpdatedAt,
+                                     String credentialTypeZrn, String credentialTypeName) {
+        this(namespaceId, name, zrn, description, createdAt, updatedAt,
+             credentialId != null
+                 ? new CredentialSummaryDTO(credentialId, credentialZrn, credentialTitle, credentialCreatedAt,
+                                            credentialUpdatedAt, credentialTypeZrn, credentialTypeName, zrn)
+                 : null);
+    }
+}
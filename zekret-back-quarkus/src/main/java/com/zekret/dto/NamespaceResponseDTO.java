@@ -11,7 +11,7 @@ public record NamespaceResponseDTO (
     String description,
     LocalDateTime createdAt,
     LocalDateTime updatedAt,
-    List<CredentialResponseDTO> credentials
+    List<CredentialSummaryDTO> credentials
 ) {
     
 }
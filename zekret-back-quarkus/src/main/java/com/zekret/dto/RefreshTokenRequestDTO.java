@@ -0,0 +1,12 @@
+package com.zekret.dto;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.validation.constraints.NotBlank;
+
+@RegisterForReflection
+public record RefreshTokenRequestDTO(
+    @NotBlank(message = "Refresh token is mandatory")
+    String refresh_token
+) {
+    
+}
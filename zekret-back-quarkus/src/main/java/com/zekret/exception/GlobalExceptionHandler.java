@@ -23,6 +23,7 @@ import jakarta.ws.rs.ext.Provider;
 public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
     
     private static final Logger LOG = Logger.getLogger(GlobalExceptionHandler.class);
+    private static final int RETRY_AFTER_SECONDS = 1;
     
     @Context
     UriInfo uriInfo;
@@ -52,6 +53,10 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
             return handleConflictException(ex, path);
         }
         
+        if (exception instanceof ServiceUnavailableException ex) {
+            return handleServiceUnavailableException(ex, path);
+        }
+        
         if (exception instanceof InternalServerException ex) {
             return handleInternalServerException(ex, path);
         }
@@ -120,6 +125,20 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
         return Response.status(Response.Status.CONFLICT).entity(errorResponse).build();
     }
     
+    private Response handleServiceUnavailableException(ServiceUnavailableException ex, String path) {
+        LOG.warnf("Service unavailable: %s at path: %s", ex.getMessage(), path);
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+            Response.Status.SERVICE_UNAVAILABLE.getStatusCode(),
+            "Service Unavailable",
+            ex.getMessage(),
+            path
+        );
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+            .header("Retry-After", RETRY_AFTER_SECONDS)
+            .entity(errorResponse)
+            .build();
+    }
+    
     private Response handleInternalServerException(InternalServerException ex, String path) {
         LOG.errorf(ex, "Internal server error: %s at path: %s", ex.getMessage(), path);
         ErrorResponseDTO errorResponse = new ErrorResponseDTO(
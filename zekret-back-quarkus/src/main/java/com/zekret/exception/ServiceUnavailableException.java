@@ -0,0 +1,17 @@
+package com.zekret.exception;
+
+/**
+ * Excepción lanzada cuando el servidor está saturado y no puede atender la petición en este momento.
+ * Por ejemplo, cuando la cola de hashing de contraseñas está llena.
+ * Mapea a HTTP 503 (Service Unavailable).
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+    
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,6 +2,7 @@ package com.zekret.mapper;
 
 import com.zekret.dto.CredentialRequestDTO;
 import com.zekret.dto.CredentialResponseDTO;
+import com.zekret.dto.CredentialSummaryDTO;
 import com.zekret.dto.CredentialTypeResponseDTO;
 import com.zekret.dto.NamespaceResponseDTO;
 import com.zekret.model.Credential;
@@ -19,7 +20,6 @@ public class CredentialMapper {
         credential.setSshPrivateKey(dto.sshPrivateKey());
         credential.setSecretText(dto.secretText());
         credential.setFileName(dto.fileName());
-        credential.setFileContent(dto.fileContent());
         credential.setNotes(dto.notes());
 
         CredentialType credentialType = new CredentialType();
@@ -57,7 +57,7 @@ public class CredentialMapper {
             credential.getSshPrivateKey(),
             credential.getSecretText(),
             credential.getFileName(),
-            credential.getFileContent(),
+            credential.getFileSize(),
             credential.getNotes(),
             credential.getCreatedAt(),
             credential.getUpdatedAt(),
@@ -67,4 +67,23 @@ public class CredentialMapper {
 
         return dto;
     }
+
+    public static CredentialSummaryDTO toSummaryDTO(Credential credential) {
+        CredentialTypeResponseDTO typeDTO = credential.getCredentialType() != null
+            ? new CredentialTypeResponseDTO(
+                credential.getCredentialType().getZrn(),
+                credential.getCredentialType().getName()
+            )
+            : null;
+
+        return new CredentialSummaryDTO(
+            credential.getId(),
+            credential.getZrn(),
+            credential.getTitle(),
+            credential.getCreatedAt(),
+            credential.getUpdatedAt(),
+            typeDTO,
+            credential.getNamespace() != null ? credential.getNamespace().getZrn() : null
+        );
+    }
 }
\ No newline at end of file
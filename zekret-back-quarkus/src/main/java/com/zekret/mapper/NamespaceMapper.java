@@ -1,5 +1,8 @@
 package com.zekret.mapper;
 
+import java.util.List;
+
+import com.zekret.dto.CredentialSummaryDTO;
 import com.zekret.dto.NamespaceRequestDTO;
 import com.zekret.dto.NamespaceResponseDTO;
 import com.zekret.model.Namespace;
@@ -14,17 +17,24 @@ public class NamespaceMapper {
     }
 
     public static NamespaceResponseDTO toDTO(Namespace entity) {
+        return toDTO(
+            entity,
+            entity.getCredentials() != null 
+                ? entity.getCredentials().stream()
+                    .map(credential -> CredentialMapper.toSummaryDTO(credential))
+                    .toList()
+                : null
+        );
+    }
+
+    public static NamespaceResponseDTO toDTO(Namespace entity, List<CredentialSummaryDTO> credentials) {
         return new NamespaceResponseDTO(
             entity.getName(),
             entity.getZrn(),
             entity.getDescription(),
             entity.getCreatedAt(),
             entity.getUpdatedAt(),
-            entity.getCredentials() != null 
-                ? entity.getCredentials().stream()
-                    .map(credential -> CredentialMapper.toDTO(credential))
-                    .toList()
-                : null
+            credentials
         );
     }
 }
\ No newline at end of file
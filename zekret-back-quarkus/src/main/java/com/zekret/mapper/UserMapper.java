@@ -1,17 +1,15 @@
 package com.zekret.mapper;
 
-import org.mindrot.jbcrypt.BCrypt;
-
 import com.zekret.dto.UserRequestDTO;
 import com.zekret.dto.UserResponseDTO;
 import com.zekret.model.User;
 
 public class UserMapper {
-    public static User toEntity(UserRequestDTO dto) {
+    public static User toEntity(UserRequestDTO dto, String passwordHash) {
         User user = new User();
         user.setEmail(dto.email());
         user.setUsername(dto.username());
-        user.setPassword(BCrypt.hashpw(dto.password(), BCrypt.gensalt()));
+        user.setPassword(passwordHash);
         return user;
     }
 
@@ -2,10 +2,14 @@ package com.zekret.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.LazyGroup;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -37,11 +41,17 @@ public class Credential extends PanacheEntityBase {
 	@Column(name = "password", nullable = true)
 	private String password;
 	
+    // Las columnas TEXT se cargan de forma diferida y juntas, en un grupo propio,
+    // para que borrar, mover o actualizar metadatos nunca las lea
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
 	@Column(name = "ssh_public_key", nullable = true, columnDefinition = "TEXT")
 	private String sshPublicKey;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
 	@Column(name = "ssh_private_key", nullable = true, columnDefinition = "TEXT")
 	private String sshPrivateKey;
 	
@@ -51,11 +61,13 @@ public class Credential extends PanacheEntityBase {
 	@Column(name = "file_name", nullable = true)
 	private String fileName;
 	
-    @Lob
-	@Column(name = "file_content", nullable = true, columnDefinition = "TEXT")
-	private String fileContent;
+	// El contenido del fichero se guarda por fragmentos en tbl_credential_file_chunk
+	@Column(name = "file_size", nullable = true)
+	private Long fileSize;
 	
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("content")
 	@Column(name = "notes", nullable = true, columnDefinition = "TEXT")
 	private String notes;
 
@@ -160,12 +172,12 @@ public class Credential extends PanacheEntityBase {
 		this.fileName = fileName;
 	}
 
-	public String getFileContent() {
-		return fileContent;
+	public Long getFileSize() {
+		return fileSize;
 	}
 
-	public void setFileContent(String fileContent) {
-		this.fileContent = fileContent;
+	public void setFileSize(Long fileSize) {
+		this.fileSize = fileSize;
 	}
 
 	public String getNotes() {
@@ -0,0 +1,77 @@
+package com.zekret.model;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "tbl_credential_file_chunk", indexes = {
+    @Index(name = "ux_credential_file_chunk_credential_seq", columnList = "id_credential, seq", unique = true)
+})
+@RegisterForReflection
+public class CredentialFileChunk extends PanacheEntityBase {
+
+    /**
+     * Tamaño máximo de cada fragmento; acota la memoria usada por subida o descarga
+     */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_credential", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Credential credential;
+
+    @Column(name = "seq", nullable = false)
+    private int seq;
+
+    @Column(name = "data", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] data;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Credential getCredential() {
+        return credential;
+    }
+
+    public void setCredential(Credential credential) {
+        this.credential = credential;
+    }
+
+    public int getSeq() {
+        return seq;
+    }
+
+    public void setSeq(int seq) {
+        this.seq = seq;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+}
@@ -1,41 +1,67 @@
 package com.zekret.model;
 
+import java.time.LocalDateTime;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "tbl_token")
+@Table(name = "tbl_token", indexes = {
+    @Index(name = "ux_token_access_token_hash", columnList = "access_token_hash", unique = true),
+    @Index(name = "ux_token_refresh_token_hash", columnList = "refresh_token_hash", unique = true),
+    @Index(name = "idx_token_user_logged_out", columnList = "user_id, logged_out"),
+    @Index(name = "idx_token_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_token_logged_out_created_at", columnList = "logged_out, created_at")
+})
 @RegisterForReflection
 public class Token extends PanacheEntityBase {
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     public Long id;
-    
-    @Lob
-    @Column(name = "access_token", nullable = false, columnDefinition = "TEXT")
-    private String accessToken;
 
-    @Lob
-    @Column(name = "refresh_token", nullable = false, columnDefinition = "TEXT")
-    private String refreshToken;
+    @Column(name = "token_id", nullable = true, length = 36)
+    private String tokenId;
+
+    @Column(name = "access_token_hash", nullable = false, length = 32, columnDefinition = "BINARY(32)")
+    private byte[] accessTokenHash;
+
+    @Column(name = "refresh_token_hash", nullable = true, length = 32, columnDefinition = "BINARY(32)")
+    private byte[] refreshTokenHash;
 
     @Column(name = "logged_out", nullable = false)
     private boolean loggedOut;
 
-    @ManyToOne
+    @Column(name = "generation", nullable = false)
+    private int generation;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Nullable: las sesiones que escribe el backend Spring en la misma tabla no la informan
+    @Column(name = "expires_at", nullable = true)
+    private LocalDateTime expiresAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
     public Long getId() {
         return id;
     }
@@ -44,20 +70,28 @@ public class Token extends PanacheEntityBase {
         this.id = id;
     }
 
-    public String getAccessToken() {
-        return accessToken;
+    public String getTokenId() {
+        return tokenId;
     }
 
-    public void setAccessToken(String accessToken) {
-        this.accessToken = accessToken;
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
     }
 
-    public String getRefreshToken() {
-        return refreshToken;
+    public byte[] getAccessTokenHash() {
+        return accessTokenHash;
     }
 
-    public void setRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
+    public void setAccessTokenHash(byte[] accessTokenHash) {
+        this.accessTokenHash = accessTokenHash;
+    }
+
+    public byte[] getRefreshTokenHash() {
+        return refreshTokenHash;
+    }
+
+    public void setRefreshTokenHash(byte[] refreshTokenHash) {
+        this.refreshTokenHash = refreshTokenHash;
     }
 
     public boolean isLoggedOut() {
@@ -68,6 +102,26 @@ public class Token extends PanacheEntityBase {
         this.loggedOut = loggedOut;
     }
 
+    public int getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(int generation) {
+        this.generation = generation;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
     public User getUser() {
         return user;
     }
@@ -75,4 +129,4 @@ public class Token extends PanacheEntityBase {
     public void setUser(User user) {
         this.user = user;
     }
-}
\ No newline at end of file
+}
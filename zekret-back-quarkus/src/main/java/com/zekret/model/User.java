@@ -2,10 +2,13 @@ package com.zekret.model;
 
 import java.time.LocalDateTime;
 
+import com.zekret.repository.UserCacheListener;
+
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import io.quarkus.runtime.annotations.RegisterForReflection;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -15,6 +18,7 @@ import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "tbl_user")
+@EntityListeners(UserCacheListener.class)
 @RegisterForReflection
 public class User extends PanacheEntityBase {
     
@@ -40,6 +44,9 @@ public class User extends PanacheEntityBase {
 	@Column(name = "enabled", nullable = false)
 	private boolean enabled = true;
 
+	@Column(name = "token_generation", nullable = false)
+	private int tokenGeneration = 0;
+
 	@PrePersist
 	public void prePersist() {
 		this.createdAt = LocalDateTime.now();
@@ -98,4 +105,12 @@ public class User extends PanacheEntityBase {
 	public void setEnabled(boolean enabled) {
 		this.enabled = enabled;
 	}
+
+	public int getTokenGeneration() {
+		return tokenGeneration;
+	}
+
+	public void setTokenGeneration(int tokenGeneration) {
+		this.tokenGeneration = tokenGeneration;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.zekret.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.jboss.logging.Logger;
+
+import com.zekret.model.CredentialFileChunk;
+
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class CredentialFileChunkRepository implements PanacheRepository<CredentialFileChunk> {
+    private static final Logger LOG = Logger.getLogger(CredentialFileChunkRepository.class);
+
+    /**
+     * Filas que el driver trae por viaje: una, para que solo haya un fragmento en memoria
+     */
+    public static final int STREAM_FETCH_SIZE = 1;
+
+    /**
+     * Insert a chunk and detach it right away, so the persistence context never holds
+     * more than one chunk of the file being uploaded
+     * @param chunk The chunk to insert
+     */
+    public void persistAndRelease(CredentialFileChunk chunk) {
+        persist(chunk);
+        flush();
+        getEntityManager().detach(chunk);
+    }
+
+    /**
+     * Stream the bytes of every chunk of a credential file in order, without managing the chunk entities.
+     * Must be consumed inside a transaction and closed afterwards.
+     * @param credentialId The credential ID
+     * @return The chunk bytes ordered by seq
+     */
+    public Stream<byte[]> streamDataByCredentialId(Long credentialId) {
+        return getEntityManager()
+                .createQuery("select c.data from CredentialFileChunk c where c.credential.id = :credentialId order by c.seq", byte[].class)
+                .setParameter("credentialId", credentialId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    /**
+     * Delete every chunk of a credential file with a single statement
+     * @param credentialId The credential ID
+     * @return Number of chunks deleted
+     */
+    public long deleteByCredentialId(Long credentialId) {
+        LOG.debugf("Deleting file chunks for credentialId: %d", credentialId);
+        return delete("credential.id", credentialId);
+    }
+}
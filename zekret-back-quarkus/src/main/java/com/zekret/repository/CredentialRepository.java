@@ -2,9 +2,12 @@ package com.zekret.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.jboss.logging.Logger;
 
+import com.zekret.dto.CredentialSummaryDTO;
 import com.zekret.model.Credential;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
@@ -15,6 +18,16 @@ import jakarta.enterprise.context.ApplicationScoped;
 public class CredentialRepository implements PanacheRepository<Credential> {
     private static final Logger LOG = Logger.getLogger(CredentialRepository.class.getName());
 
+    /**
+     * Filas que el driver trae por viaje al recorrer un cursor
+     */
+    public static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SUMMARY_SELECT =
+            "select new com.zekret.dto.CredentialSummaryDTO("
+            + "c.id, c.zrn, c.title, c.createdAt, c.updatedAt, t.zrn, t.name, n.zrn) "
+            + "from Credential c join c.namespace n left join c.credentialType t ";
+
     /**
      * Find a credential by ZRN and user ID
      * @param zrn The ZRN identifier
@@ -28,14 +41,46 @@ public class CredentialRepository implements PanacheRepository<Credential> {
     }
 
     /**
-     * Final all credentials for a specific user and namespace ZRN
+     * Find the next page of credential summaries for a specific user and namespace ZRN.
+     * Projects only the scalar columns, so the TEXT columns are never read.
+     * Seeks on id instead of using OFFSET, so every page costs the same at any depth.
+     * @param namespaceZrn The namespace ZRN
+     * @param userId The user ID to filter by
+     * @param afterId Last id of the previous page (0 for the first page)
+     * @param limit Page size; limit + 1 rows are read so the caller knows whether there is a next page
+     * @return Summaries of the credentials in the namespace belonging to the user with id greater than afterId, ordered by id
+     */
+    public List<CredentialSummaryDTO> findSummaryPageByNamespaceZrnAndUserId(String namespaceZrn, Long userId, long afterId, int limit) {
+        LOG.info("Finding credential summaries page for namespaceZrn: " + namespaceZrn + " and userId: " + userId);
+        return getEntityManager()
+                .createQuery(SUMMARY_SELECT
+                        + "where n.zrn = :namespaceZrn and c.user.id = :userId and c.id > :afterId "
+                        + "order by c.id", CredentialSummaryDTO.class)
+                .setParameter("namespaceZrn", namespaceZrn)
+                .setParameter("userId", userId)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit + 1)
+                .getResultList();
+    }
+
+    /**
+     * Stream every credential summary of a namespace through a forward-only cursor.
+     * The driver fetches STREAM_FETCH_SIZE rows at a time instead of buffering the whole result,
+     * and the rows are DTO projections, so nothing accumulates in the persistence context.
+     * Must be consumed and closed inside the caller's transaction.
      * @param namespaceZrn The namespace ZRN
      * @param userId The user ID to filter by
-     * @return List of credentials in the namespace belonging to the user
+     * @return Stream of summaries ordered by id
      */
-    public List<Credential> findByNamespaceZrnAndUserId(String namespaceZrn, Long userId) {
-        LOG.info("Finding credentials for namespaceZrn: " + namespaceZrn + " and userId: " + userId);
-        return list("namespace.zrn = :namespaceZrn and user.id = :userId", 
-                    Parameters.with("namespaceZrn", namespaceZrn).and("userId", userId));
+    public Stream<CredentialSummaryDTO> streamSummariesByNamespaceZrnAndUserId(String namespaceZrn, Long userId) {
+        LOG.info("Streaming credential summaries for namespaceZrn: " + namespaceZrn + " and userId: " + userId);
+        return getEntityManager()
+                .createQuery(SUMMARY_SELECT
+                        + "where n.zrn = :namespaceZrn and c.user.id = :userId "
+                        + "order by c.id", CredentialSummaryDTO.class)
+                .setParameter("namespaceZrn", namespaceZrn)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.zekret.repository;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.jboss.logging.Logger;
 
+import com.zekret.dto.NamespaceCredentialRowDTO;
 import com.zekret.model.Namespace;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
@@ -15,16 +17,6 @@ import jakarta.enterprise.context.ApplicationScoped;
 public class NamespaceRepository implements PanacheRepository<Namespace> {
     private static final Logger LOG = Logger.getLogger(NamespaceRepository.class);
 
-    /**
-     * Find all namespaces for a specific user
-     * @param userId The user ID to filter by
-     * @return List of namespaces belonging to the user
-     */
-    public List<Namespace> findByUserId(Long userId) {
-        LOG.debugf("Finding namespaces for userId: %d", userId);
-        return list("user.id", userId);
-    }
-
     /**
      * Find a namespace by ZRN and user ID
      * @param zrn The ZRN identifier
@@ -37,4 +29,25 @@ public class NamespaceRepository implements PanacheRepository<Namespace> {
                     Parameters.with("zrn", zrn).and("userId", userId)).firstResultOptional();
         return namespace;
     }
+
+    /**
+     * Stream the namespaces of a user joined with their credential summaries through a forward-only cursor.
+     * Rows are ordered by namespace and credential id; a namespace without credentials yields one row
+     * with a null credential. Must be consumed and closed inside the caller's transaction.
+     * @param userId The user ID to filter by
+     * @return Stream of namespace and credential rows
+     */
+    public Stream<NamespaceCredentialRowDTO> streamWithCredentialSummariesByUserId(Long userId) {
+        LOG.debugf("Streaming namespaces with credential summaries for userId: %d", userId);
+        return getEntityManager()
+                .createQuery("select new com.zekret.dto.NamespaceCredentialRowDTO("
+                        + "n.id, n.name, n.zrn, n.description, n.createdAt, n.updatedAt, "
+                        + "c.id, c.zrn, c.title, c.createdAt, c.updatedAt, t.zrn, t.name) "
+                        + "from Namespace n left join n.credentials c left join c.credentialType t "
+                        + "where n.user.id = :userId "
+                        + "order by n.id, c.id", NamespaceCredentialRowDTO.class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, CredentialRepository.STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
 }
@@ -1,15 +1,18 @@
 package com.zekret.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.jboss.logging.Logger;
 
 import com.zekret.model.Token;
+import com.zekret.util.TokenHasher;
 
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.panache.common.Parameters;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
 
 @ApplicationScoped
 public class TokenRepository implements PanacheRepository<Token> {
@@ -17,19 +20,59 @@ public class TokenRepository implements PanacheRepository<Token> {
 
     /**
      * Find Token by its token string.
+     * The lookup uses the SHA-256 digest of the token, which is a unique indexed column.
      */
     public Optional<Token> findByAccessToken(String accessToken) {
-        LOG.debugf("Finding Token by token string: %s", accessToken);
-        return find("accessToken", accessToken).firstResultOptional();
+        LOG.debug("Finding Token by access token digest");
+        return find("accessTokenHash", TokenHasher.sha256(accessToken)).firstResultOptional();
     }
 
     /**
-     * Invalidate all tokens for a given user by setting loggedOut to true.
+     * Find Token by its refresh token string.
+     * The lookup uses the SHA-256 digest of the token, which is a unique indexed column.
+     */
+    public Optional<Token> findByRefreshToken(String refreshToken) {
+        LOG.debug("Finding Token by refresh token digest");
+        return find("refreshTokenHash", TokenHasher.sha256(refreshToken)).firstResultOptional();
+    }
+
+    /**
+     * Mark a single token as logged out if it is still active.
+     * The check and the update are one statement, so only one caller can consume a refresh token.
+     * @return true if the token was active and is now logged out, false otherwise
      */
     @Transactional
-    public void invalidateTokensByUserId(Long userId) {
-        LOG.debugf("Invalidating tokens for user ID: %d", userId);
-        update("loggedOut = true where user.id = :user_id and loggedOut = false", 
-            Parameters.with("user_id", userId));
+    public boolean invalidateToken(Long tokenId) {
+        LOG.debugf("Invalidating token ID: %d", tokenId);
+        return update("loggedOut = true where id = :id and loggedOut = false",
+            Parameters.with("id", tokenId)) == 1;
+    }
+
+    /**
+     * Delete up to batchSize tokens that expired before the given cutoff.
+     * Each call runs in its own transaction so the row locks are released after every chunk.
+     * @return Number of rows deleted
+     */
+    @Transactional(TxType.REQUIRES_NEW)
+    public int deleteExpiredBatch(LocalDateTime cutoff, int batchSize) {
+        LOG.debugf("Deleting up to %d tokens expired before %s", batchSize, cutoff);
+        return getEntityManager()
+            .createNativeQuery("DELETE FROM tbl_token WHERE expires_at < :cutoff LIMIT " + batchSize)
+            .setParameter("cutoff", cutoff)
+            .executeUpdate();
+    }
+
+    /**
+     * Delete up to batchSize logged out tokens created before the given cutoff.
+     * Each call runs in its own transaction so the row locks are released after every chunk.
+     * @return Number of rows deleted
+     */
+    @Transactional(TxType.REQUIRES_NEW)
+    public int deleteLoggedOutBatch(LocalDateTime cutoff, int batchSize) {
+        LOG.debugf("Deleting up to %d logged out tokens created before %s", batchSize, cutoff);
+        return getEntityManager()
+            .createNativeQuery("DELETE FROM tbl_token WHERE logged_out = true AND created_at < :cutoff LIMIT " + batchSize)
+            .setParameter("cutoff", cutoff)
+            .executeUpdate();
     }
-}
\ No newline at end of file
+}
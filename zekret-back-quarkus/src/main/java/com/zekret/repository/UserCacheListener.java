@@ -0,0 +1,26 @@
+package com.zekret.repository;
+
+import com.zekret.model.User;
+
+import io.quarkus.arc.Arc;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener JPA que invalida la caché de usuarios de UserRepository en cada escritura de un User.
+ *
+ * Cubre cualquier flujo que modifique un usuario a través de la entidad (registro, cambio de
+ * contraseña, deshabilitar la cuenta...), de modo que la caché nunca devuelve una contraseña
+ * o un estado "enabled" que ya no está en la base de datos.
+ * Los UPDATE masivos en JPQL no disparan el listener y deben invalidar por su cuenta.
+ */
+public class UserCacheListener {
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(User user) {
+        Arc.container().instance(UserRepository.class).get().invalidate(user);
+    }
+}
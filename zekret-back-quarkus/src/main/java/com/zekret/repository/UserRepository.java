@@ -1,25 +1,118 @@
 package com.zekret.repository;
 
+import java.time.Duration;
 import java.util.Optional;
 
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.zekret.model.User;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.panache.common.Parameters;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
 
 @ApplicationScoped
 public class UserRepository implements PanacheRepository<User> {
     private static final Logger LOG = Logger.getLogger(UserRepository.class);
+    private static final String EMAIL_KEY = "email:";
+    private static final String USERNAME_KEY = "username:";
+
+    /**
+     * Users resolved by email or username, each stored under both keys.
+     * Only found users are cached, so a registration is never hidden by a stale miss.
+     */
+    private final Cache<String, User> users;
+
+    public UserRepository(
+            MeterRegistry registry,
+            @ConfigProperty(name = "user.cache.max-size") long maxSize,
+            @ConfigProperty(name = "user.cache.ttl") Duration ttl) {
+        this.users = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, users, "users");
+    }
     
     /**
      * Find User by its email or username.
+     * The returned User is detached and shared through the cache, so it must not be modified.
+     * Every write of a User entity invalidates it through {@link UserCacheListener}.
+     * The tokenGeneration of a cached User is not kept up to date (it is changed with a bulk UPDATE);
+     * read it with {@link #findTokenGenerationByEmail(String)}.
      */
     public Optional<User> findByEmailOrUsername(String email, String username) {
+        User cached = users.getIfPresent(EMAIL_KEY + email);
+        if (cached == null) {
+            cached = users.getIfPresent(USERNAME_KEY + username);
+        }
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         LOG.debugf("Finding User by email or username: %s or %s", email, username);
-        return find("email = :email or username = :username", 
+        Optional<User> user = find("email = :email or username = :username", 
             Parameters.with("email", email).and("username", username)).firstResultOptional();
+        user.ifPresent(this::cache);
+        return user;
+    }
+
+    /**
+     * Remove a user from the cache.
+     * Called by {@link UserCacheListener} after a User is inserted, updated or deleted.
+     */
+    public void invalidate(User user) {
+        LOG.debugf("Invalidating cached User: %s", user.getEmail());
+        users.invalidate(EMAIL_KEY + user.getEmail());
+        users.invalidate(USERNAME_KEY + user.getUsername());
+    }
+
+    private void cache(User user) {
+        getEntityManager().detach(user);
+        users.put(EMAIL_KEY + user.getEmail(), user);
+        users.put(USERNAME_KEY + user.getUsername(), user);
+    }
+
+    /**
+     * Get a reference to a User by ID without loading it.
+     * Useful to set the owner of a new entity when only the ID is known.
+     */
+    public User getReference(Long id) {
+        return getEntityManager().getReference(User.class, id);
+    }
+
+    /**
+     * Find the token generation of a user by email.
+     * Only the integer column is selected.
+     */
+    public Optional<Integer> findTokenGenerationByEmail(String email) {
+        LOG.debugf("Finding token generation for email: %s", email);
+        return getEntityManager()
+            .createQuery("select u.tokenGeneration from User u where u.email = :email", Integer.class)
+            .setParameter("email", email)
+            .getResultStream()
+            .findFirst();
+    }
+
+    /**
+     * Increment the token generation of a user, revoking every token issued with a previous generation.
+     * The increment is a single-row UPDATE, so concurrent calls never lose an increment.
+     * @return The new token generation
+     */
+    @Transactional
+    public int incrementTokenGeneration(Long userId) {
+        LOG.debugf("Incrementing token generation for user ID: %d", userId);
+        update("tokenGeneration = tokenGeneration + 1 where id = :id", Parameters.with("id", userId));
+        return getEntityManager()
+            .createQuery("select u.tokenGeneration from User u where u.id = :id", Integer.class)
+            .setParameter("id", userId)
+            .getSingleResult();
     }
-}
\ No newline at end of file
+}
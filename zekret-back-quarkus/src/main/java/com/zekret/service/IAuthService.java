@@ -9,6 +9,12 @@ public interface IAuthService {
      */
     AuthResponseDTO authenticate(String username, String password);
 
+    /**
+     * Exchange a refresh token for a new access token and refresh token.
+     * The refresh token is single use; presenting it again revokes the user's session.
+     */
+    AuthResponseDTO refresh(String refreshToken);
+
     /**
      * Logout user by invalidating their tokens
      */
@@ -0,0 +1,43 @@
+package com.zekret.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.zekret.dto.CredentialFileDTO;
+
+public interface ICredentialFileService {
+
+    /**
+     * Replace the file attached to a credential, reading the content in bounded chunks.
+     * The content is buffered to a temporary file before any transaction is opened.
+     * 
+     * @param userId The user ID that owns the credential.
+     * @param zrn The ZRN identifier of the credential.
+     * @param fileName New file name, or null to keep the current one.
+     * @param content The file bytes.
+     * @return Name and size of the stored file.
+     * @throws com.zekret.exception.BadRequestException If the content cannot be read or exceeds the maximum size.
+     */
+    CredentialFileDTO uploadFile(Long userId, String zrn, String fileName, InputStream content);
+
+    /**
+     * Get the name and size of the file attached to a credential.
+     * 
+     * @param zrn The ZRN identifier of the credential.
+     * @param userId The user ID to filter by.
+     * @return Name and size of the stored file.
+     */
+    CredentialFileDTO getFile(String zrn, Long userId);
+
+    /**
+     * Write the file attached to a credential to the output, one chunk at a time.
+     * The chunks are read from a single consistent snapshot, so a concurrent upload is never mixed in.
+     * 
+     * @param zrn The ZRN identifier of the credential.
+     * @param userId The user ID to filter by.
+     * @param output Destination of the file bytes.
+     * @throws IOException If the output cannot be written.
+     */
+    void writeFile(String zrn, Long userId, OutputStream output) throws IOException;
+}
@@ -1,54 +1,73 @@
 package com.zekret.service;
 
-import java.util.List;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import com.zekret.dto.CredentialRequestDTO;
 import com.zekret.dto.CredentialResponseDTO;
+import com.zekret.dto.CredentialSummaryDTO;
+import com.zekret.dto.KeysetPageDTO;
 
 public interface ICredentialService {
 
     /**
-     * Get all credentials for the authenticated user and namespace ZRN.
+     * Get a page of credential summaries for the authenticated user and namespace ZRN.
+     * Summaries carry no secret or TEXT columns.
+     * 
+     * @param namespaceZrn The namespace ZRN to filter credentials.
+     * @param userId The user ID to filter credentials.
+     * @param after Opaque cursor returned with the previous page, or null for the first page.
+     * @param limit Maximum number of credentials in the page.
+     * @return Page of credential summaries in the specified namespace for the user.
+     */
+    KeysetPageDTO<CredentialSummaryDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId, String after, int limit);
+
+    /**
+     * Write every credential summary of a namespace for the authenticated user as elements of the
+     * JSON array the generator is positioned in. Rows are read from a database cursor and written
+     * one at a time, so memory use does not grow with the size of the namespace.
      * 
      * @param namespaceZrn The namespace ZRN to filter credentials.
-     * @param userEmail The user email to filter credentials.
-     * @return List of credentials in the specified namespace for the user.
+     * @param userId The user ID to filter credentials.
+     * @param generator JSON generator positioned inside an array.
+     * @throws IOException if writing fails.
      */
-    List<CredentialResponseDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, String userEmail);
+    void writeCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId, JsonGenerator generator) throws IOException;
 
     /**
-     * Get a credential by ZRN and user email.
+     * Get a credential by ZRN and user ID.
      * 
      * @param zrn The ZRN identifier of the credential.
-     * @param userEmail The user email to filter by.
+     * @param userId The user ID to filter by.
      * @return The credential if found, null otherwise.
      */
-    CredentialResponseDTO getCredentialByZrnAndUserEmail(String zrn, String userEmail);
+    CredentialResponseDTO getCredentialByZrnAndUserId(String zrn, Long userId);
     
     /**
      * Register a new credential for a user.
      * 
-     * @param userEmail The user email to associate the credential with.
+     * @param userId The user ID to associate the credential with.
      * @param credentialRequestDTO The credential data to register.
      * @return The registered CredentialResponseDTO.
      */
-    CredentialResponseDTO registerCredential(String userEmail, CredentialRequestDTO credentialRequestDTO);
+    CredentialResponseDTO registerCredential(Long userId, CredentialRequestDTO credentialRequestDTO);
 
     /**
      * Update an existing credential for a user.
      * 
-     * @param userEmail The user email to associate the credential with.
+     * @param userId The user ID to associate the credential with.
      * @param zrn The ZRN identifier of the credential to update.
      * @param credentialRequestDTO The credential data to update.
      * @return The updated CredentialResponseDTO.
      */
-    CredentialResponseDTO updateCredential(String userEmail, String zrn, CredentialRequestDTO credentialRequestDTO);
+    CredentialResponseDTO updateCredential(Long userId, String zrn, CredentialRequestDTO credentialRequestDTO);
 
     /**
-     * Delete a credential by ZRN and user email.
+     * Delete a credential by ZRN and user ID.
      * 
      * @param zrn The ZRN identifier of the credential to delete.
-     * @param userEmail The user email to filter by.
+     * @param userId The user ID to filter by.
      */
-    void deleteCredentialByZrnAndUserEmail(String zrn, String userEmail);
+    void deleteCredentialByZrnAndUserId(String zrn, Long userId);
 }
\ No newline at end of file
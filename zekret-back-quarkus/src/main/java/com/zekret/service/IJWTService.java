@@ -4,8 +4,27 @@ import com.zekret.model.User;
 
 public interface IJWTService {
 
+    /**
+     * Name of the claim that carries the token generation of the user.
+     */
+    String GENERATION_CLAIM = "gen";
+
+    /**
+     * Name of the claim that carries the ID of the user.
+     */
+    String USER_ID_CLAIM = "uid";
+
     /**
      * Generate JWT token for the given user.
+     * The tokenId is emitted as the jti claim so the token can be tracked without storing it.
+     * The generation is emitted as the gen claim; the token is revoked once the user's generation changes.
+     * The user ID is emitted as the uid claim so requests can be served without looking the user up.
+     */
+    String generateToken(User user, String tokenId, int generation);
+
+    /**
+     * Generate an opaque refresh token.
+     * It is a random value, not a JWT, and is only stored as a SHA-256 digest.
      */
-    String generateToken(User user);
-}
\ No newline at end of file
+    String generateRefreshToken();
+}
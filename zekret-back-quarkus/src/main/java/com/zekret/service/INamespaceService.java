@@ -1,6 +1,8 @@
 package com.zekret.service;
 
-import java.util.List;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import com.zekret.dto.NamespaceRequestDTO;
 import com.zekret.dto.NamespaceResponseDTO;
@@ -8,40 +10,43 @@ import com.zekret.dto.NamespaceResponseDTO;
 public interface INamespaceService {
     
     /**
-     * Get all namespaces for a specific user
-     * @param userEmail The user email to filter by
-     * @return List of namespaces belonging to the user
+     * Write all namespaces of a specific user, with their credential summaries, as elements of the
+     * JSON array the generator is positioned in. Rows are read from a database cursor and written
+     * one at a time, so memory use does not grow with the number of namespaces or credentials.
+     * @param userId The user ID to filter by
+     * @param generator JSON generator positioned inside an array
+     * @throws IOException if writing fails
      */
-    List<NamespaceResponseDTO> getNamespacesByUserEmail(String userEmail);
+    void writeNamespacesByUserId(Long userId, JsonGenerator generator) throws IOException;
 
     /**
-     * Get a namespace by ZRN and user email
+     * Get a namespace by ZRN and user ID
      * @param zrn The ZRN identifier
-     * @param userEmail The user email to filter by
+     * @param userId The user ID to filter by
      * @return NamespaceResponseDTO if found, null otherwise
      */
-    NamespaceResponseDTO getNamespaceByZrnAndUserEmail(String zrn, String userEmail);
+    NamespaceResponseDTO getNamespaceByZrnAndUserId(String zrn, Long userId);
 
     /**
      * Register a new namespace for a user
-     * @param userEmail The user email to associate the namespace with
+     * @param userId The user ID to associate the namespace with
      * @param namespace The namespace to register
      * @return The registered NamespaceResponseDTO
      */
-    NamespaceResponseDTO registerNamespace(String userEmail, NamespaceRequestDTO namespace);
+    NamespaceResponseDTO registerNamespace(Long userId, NamespaceRequestDTO namespace);
     /**
      * Update an existing namespace for a user
-     * @param userEmail The user email to associate the namespace with
+     * @param userId The user ID to associate the namespace with
      * @param zrn The ZRN identifier of the namespace to update
      * @param namespace The namespace to update
      * @return The updated NamespaceResponseDTO
      */
-    NamespaceResponseDTO updateNamespace(String userEmail, String zrn, NamespaceRequestDTO namespace);
+    NamespaceResponseDTO updateNamespace(Long userId, String zrn, NamespaceRequestDTO namespace);
 
     /**
-     * Delete a namespace by ZRN and user email
+     * Delete a namespace by ZRN and user ID
      * @param zrn The ZRN identifier
-     * @param userEmail The user email to filter by
+     * @param userId The user ID to filter by
      */
-    void deleteNamespaceByZrnAndUserEmail(String zrn, String userEmail);
+    void deleteNamespaceByZrnAndUserId(String zrn, Long userId);
 }
@@ -0,0 +1,19 @@
+package com.zekret.service;
+
+public interface IPasswordHashingService {
+
+    /**
+     * Hash a password with BCrypt.
+     * @param password The plain text password
+     * @return The BCrypt hash
+     */
+    String hash(String password);
+
+    /**
+     * Check a password against a BCrypt hash.
+     * @param password The plain text password
+     * @param hash The stored BCrypt hash
+     * @return true if the password matches, false otherwise
+     */
+    boolean verify(String password, String hash);
+}
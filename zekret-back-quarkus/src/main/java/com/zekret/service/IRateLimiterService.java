@@ -0,0 +1,28 @@
+package com.zekret.service;
+
+public interface IRateLimiterService {
+
+    /**
+     * Route classes with their own budget.
+     */
+    enum RouteClass {
+        /** Login, refresh and registration, limited per client IP. */
+        AUTH,
+        /** POST, PUT and DELETE on namespaces and credentials, limited per user. */
+        WRITE
+    }
+
+    /**
+     * Try to consume one request from the budget of the given key.
+     * @param routeClass The route class of the request
+     * @param key The client IP or the user principal
+     * @return 0 if the request is allowed, otherwise the nanoseconds until it would be
+     */
+    long tryAcquire(RouteClass routeClass, String key);
+
+    /**
+     * Remove buckets that are full, so memory is bounded by the number of recently active clients.
+     * @return Number of buckets removed
+     */
+    int evictIdleBuckets();
+}
@@ -0,0 +1,11 @@
+package com.zekret.service;
+
+public interface ITokenReaperService {
+
+    /**
+     * Delete the expired and logged out tokens older than the retention window.
+     * Rows are deleted in bounded chunks, each one in its own transaction.
+     * @return Total number of rows deleted
+     */
+    long reap();
+}
@@ -0,0 +1,20 @@
+package com.zekret.service;
+
+public interface ITokenRevocationService {
+
+    /**
+     * Check if a token generation is the current one for the given user.
+     * @param email The principal of the token
+     * @param generation The gen claim of the token
+     * @return true if the token has not been revoked, false otherwise
+     */
+    boolean isCurrentGeneration(String email, int generation);
+
+    /**
+     * Record the new token generation of a user after it has been incremented.
+     * Tokens carrying an older generation are rejected from then on.
+     * @param email The principal of the user
+     * @param generation The new generation
+     */
+    void updateGeneration(String email, int generation);
+}
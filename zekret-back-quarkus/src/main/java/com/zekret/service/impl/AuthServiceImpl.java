@@ -1,7 +1,10 @@
 package com.zekret.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
-import org.mindrot.jbcrypt.BCrypt;
 
 import com.zekret.dto.AuthResponseDTO;
 import com.zekret.exception.ResourceNotFoundException;
@@ -12,6 +15,9 @@ import com.zekret.repository.TokenRepository;
 import com.zekret.repository.UserRepository;
 import com.zekret.service.IAuthService;
 import com.zekret.service.IJWTService;
+import com.zekret.service.IPasswordHashingService;
+import com.zekret.service.ITokenRevocationService;
+import com.zekret.util.TokenHasher;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
@@ -26,16 +32,26 @@ public class AuthServiceImpl implements IAuthService {
 
     private final IJWTService jwtService;
 
-    public AuthServiceImpl(UserRepository userRepository, TokenRepository tokenRepository, IJWTService jwtService) {
+    private final ITokenRevocationService tokenRevocationService;
+
+    private final IPasswordHashingService passwordHashingService;
+
+    @ConfigProperty(name = "jwt.refresh.expiration.time")
+    long refreshExpirationTime;
+
+    public AuthServiceImpl(UserRepository userRepository, TokenRepository tokenRepository, IJWTService jwtService, ITokenRevocationService tokenRevocationService, IPasswordHashingService passwordHashingService) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.passwordHashingService = passwordHashingService;
     }
 
     @Override
-    @Transactional
     public AuthResponseDTO authenticate(String username, String password) {
         LOG.infof("Authenticating user: %s", username);
+        // La búsqueda y la verificación BCrypt van fuera de la transacción: mientras se espera un hilo
+        // del pool de hashing no se retiene ninguna conexión a la base de datos
         User userExists = userRepository.findByEmailOrUsername(username, username)
             .orElseThrow(() -> new ResourceNotFoundException("User", username));
 
@@ -43,26 +59,88 @@ public class AuthServiceImpl implements IAuthService {
             throw new UnauthorizedException("User account is disabled");
         }
 
-        if(!BCrypt.checkpw(password, userExists.getPassword())) {
+        if(!passwordHashingService.verify(password, userExists.getPassword())) {
             throw new UnauthorizedException("Invalid credentials");
         }
 
         LOG.infof("User %s authenticated successfully", username);
 
-        String jwtToken = jwtService.generateToken(userExists);
-        String refreshToken = "";
+        return openSession(userExists);
+    }
+
+    /**
+     * Revoke the previous sessions of the user and issue a new one in a single transaction.
+     */
+    @Transactional
+    AuthResponseDTO openSession(User user) {
+        // A new login revokes the previous sessions of the user
+        int generation = revokeAllSessions(user);
+
+        return issueSession(user, generation, "Login successful");
+    }
+
+    @Override
+    @Transactional(dontRollbackOn = UnauthorizedException.class)
+    public AuthResponseDTO refresh(String refreshToken) {
+        LOG.debug("Refreshing session");
+        Token currentToken = tokenRepository.findByRefreshToken(refreshToken)
+            .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+
+        User user = currentToken.getUser();
+
+        if(currentToken.getGeneration() != user.getTokenGeneration()) {
+            throw new UnauthorizedException("Session has been revoked");
+        }
+
+        if(currentToken.isLoggedOut() || !tokenRepository.invalidateToken(currentToken.getId())) {
+            LOG.warnf("Refresh token reuse detected for user ID: %d, revoking session", user.getId());
+            revokeAllSessions(user);
+            throw new UnauthorizedException("Refresh token has already been used");
+        }
+
+        if(currentToken.getExpiresAt() == null || currentToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new UnauthorizedException("Refresh token has expired");
+        }
+
+        if(!user.isEnabled()) {
+            throw new UnauthorizedException("User account is disabled");
+        }
+
+        LOG.infof("Session refreshed for user ID: %d", user.getId());
+
+        return issueSession(user, user.getTokenGeneration(), "Token refreshed successfully");
+    }
+
+    /**
+     * Issue a new access token and refresh token for the user with the given token generation.
+     */
+    private AuthResponseDTO issueSession(User user, int generation, String message) {
+        String tokenId = UUID.randomUUID().toString();
+        String jwtToken = jwtService.generateToken(user, tokenId, generation);
+        String refreshToken = jwtService.generateRefreshToken();
 
         Token newToken = new Token();
-        newToken.setAccessToken(jwtToken);
-        newToken.setRefreshToken(refreshToken);
-        newToken.setUser(userExists);
+        newToken.setTokenId(tokenId);
+        newToken.setAccessTokenHash(TokenHasher.sha256(jwtToken));
+        newToken.setRefreshTokenHash(TokenHasher.sha256(refreshToken));
+        newToken.setExpiresAt(LocalDateTime.now().plusSeconds(refreshExpirationTime));
+        newToken.setUser(user);
+        newToken.setGeneration(generation);
         newToken.setLoggedOut(false);
 
-        tokenRepository.invalidateTokensByUserId(userExists.getId());
         tokenRepository.persist(newToken);
 
+        return new AuthResponseDTO(jwtToken, refreshToken, message);
+    }
 
-        return new AuthResponseDTO(jwtToken, refreshToken, "Login successful");
+    /**
+     * Revoke every access token and refresh token of the user by incrementing its token generation.
+     * @return The new token generation
+     */
+    private int revokeAllSessions(User user) {
+        int generation = userRepository.incrementTokenGeneration(user.getId());
+        tokenRevocationService.updateGeneration(user.getEmail(), generation);
+        return generation;
     }
 
     @Override
@@ -72,7 +150,7 @@ public class AuthServiceImpl implements IAuthService {
         User user = userRepository.findByEmailOrUsername(email, email)
             .orElseThrow(() -> new ResourceNotFoundException("User", email));
 
-        tokenRepository.invalidateTokensByUserId(user.getId());
+        revokeAllSessions(user);
         LOG.infof("User %s logged out successfully", email);
     }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.zekret.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.zekret.dto.CredentialFileDTO;
+import com.zekret.exception.BadRequestException;
+import com.zekret.exception.ResourceNotFoundException;
+import com.zekret.model.Credential;
+import com.zekret.model.CredentialFileChunk;
+import com.zekret.repository.CredentialFileChunkRepository;
+import com.zekret.repository.CredentialRepository;
+import com.zekret.service.ICredentialFileService;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+@ApplicationScoped
+public class CredentialFileServiceImpl implements ICredentialFileService {
+    private static final Logger LOG = Logger.getLogger(CredentialFileServiceImpl.class);
+
+    private final CredentialRepository credentialRepository;
+    private final CredentialFileChunkRepository chunkRepository;
+    private final long maxSize;
+
+    public CredentialFileServiceImpl(CredentialRepository credentialRepository, CredentialFileChunkRepository chunkRepository,
+                                     @ConfigProperty(name = "credential.file.max-size") long maxSize) {
+        this.credentialRepository = credentialRepository;
+        this.chunkRepository = chunkRepository;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public CredentialFileDTO uploadFile(Long userId, String zrn, String fileName, InputStream content) {
+        LOG.infof("Uploading file for credential %s and user ID: %d", zrn, userId);
+
+        // El cuerpo se vuelca primero a un fichero temporal sin transacción abierta: un cliente lento
+        // no retiene una conexión del pool, y la transacción solo dura lo que tarda en leerse del disco
+        Path spool;
+        try {
+            spool = Files.createTempFile("zekret-upload-", ".part");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not buffer the uploaded file.", e);
+        }
+        try {
+            spoolContent(content, spool);
+            return storeFile(userId, zrn, fileName, spool);
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                LOG.warnf("Could not delete upload buffer %s: %s", spool, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replace the chunks of the credential file with the buffered content, in a single short transaction
+     */
+    @Transactional
+    CredentialFileDTO storeFile(Long userId, String zrn, String fileName, Path spool) {
+        Credential credential = credentialRepository
+                                .findByZrnAndUserId(zrn, userId)
+                                .orElseThrow(() -> new ResourceNotFoundException("Credential", zrn));
+
+        chunkRepository.deleteByCredentialId(credential.getId());
+
+        // El fichero nunca se carga entero: se lee y se inserta fragmento a fragmento
+        long size = 0;
+        int seq = 0;
+        try (InputStream content = Files.newInputStream(spool)) {
+            byte[] data;
+            while ((data = content.readNBytes(CredentialFileChunk.CHUNK_SIZE)).length > 0) {
+                CredentialFileChunk chunk = new CredentialFileChunk();
+                chunk.setCredential(credential);
+                chunk.setSeq(seq++);
+                chunk.setData(data);
+                chunkRepository.persistAndRelease(chunk);
+                size += data.length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the buffered upload.", e);
+        }
+
+        if (fileName != null && !fileName.isBlank()) {
+            credential.setFileName(fileName);
+        }
+        credential.setFileSize(size);
+
+        LOG.infof("Stored %d bytes in %d chunks for credential %s", size, seq, zrn);
+        return new CredentialFileDTO(credential.getFileName(), size);
+    }
+
+    private void spoolContent(InputStream content, Path spool) {
+        long size = 0;
+        try (OutputStream output = Files.newOutputStream(spool)) {
+            byte[] buffer = new byte[CredentialFileChunk.CHUNK_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                size += read;
+                if (size > maxSize) {
+                    throw new BadRequestException("The file exceeds the maximum size of " + maxSize + " bytes.");
+                }
+                output.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("Could not read the uploaded file.", e);
+        }
+    }
+
+    @Override
+    public CredentialFileDTO getFile(String zrn, Long userId) {
+        LOG.infof("Getting file of credential %s for user ID: %d", zrn, userId);
+
+        Credential credential = findWithFile(zrn, userId);
+        return new CredentialFileDTO(credential.getFileName(), credential.getFileSize());
+    }
+
+    @Override
+    @Transactional
+    public void writeFile(String zrn, Long userId, OutputStream output) throws IOException {
+        LOG.infof("Streaming file of credential %s for user ID: %d", zrn, userId);
+
+        Credential credential = findWithFile(zrn, userId);
+
+        // Credencial y fragmentos se leen en la misma transacción: con REPEATABLE READ (por defecto en InnoDB)
+        // todas las lecturas ven la misma instantánea, así que una subida concurrente no mezcla fragmentos
+        try (Stream<byte[]> chunks = chunkRepository.streamDataByCredentialId(credential.getId())) {
+            Iterator<byte[]> data = chunks.iterator();
+            while (data.hasNext()) {
+                output.write(data.next());
+            }
+        }
+    }
+
+    private Credential findWithFile(String zrn, Long userId) {
+        Credential credential = credentialRepository
+                                .findByZrnAndUserId(zrn, userId)
+                                .orElseThrow(() -> new ResourceNotFoundException("Credential", zrn));
+        if (credential.getFileSize() == null) {
+            throw new ResourceNotFoundException("File", zrn);
+        }
+        return credential;
+    }
+}
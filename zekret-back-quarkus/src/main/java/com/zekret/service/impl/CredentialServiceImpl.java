@@ -1,11 +1,18 @@
 package com.zekret.service.impl;
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import com.zekret.dto.CredentialRequestDTO;
 import com.zekret.dto.CredentialResponseDTO;
+import com.zekret.dto.CredentialSummaryDTO;
+import com.zekret.dto.KeysetPageDTO;
 import com.zekret.exception.ResourceNotFoundException;
 import com.zekret.mapper.CredentialMapper;
 import com.zekret.model.Credential;
@@ -17,6 +24,7 @@ import com.zekret.repository.CredentialTypeRepository;
 import com.zekret.repository.NamespaceRepository;
 import com.zekret.repository.UserRepository;
 import com.zekret.service.ICredentialService;
+import com.zekret.util.KeysetCursor;
 import com.zekret.util.ZrnGenerator;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -39,29 +47,40 @@ public class CredentialServiceImpl implements ICredentialService {
     }
 
     @Override
-    public List<CredentialResponseDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, String userEmail) {
-        LOG.info("Getting credentials for namespaceZrn: " + namespaceZrn + " and userEmail: " + userEmail);
+    public KeysetPageDTO<CredentialSummaryDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId, String after, int limit) {
+        LOG.info("Getting credentials for namespaceZrn: " + namespaceZrn + " and userId: " + userId);
+
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<CredentialSummaryDTO> rows = credentialRepository.findSummaryPageByNamespaceZrnAndUserId(
+                                                namespaceZrn, userId, KeysetCursor.decode(after), pageSize);
+
+        // Se lee una fila de más para saber si existe una página siguiente
+        boolean hasNext = rows.size() > pageSize;
+        List<CredentialSummaryDTO> credentials = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? KeysetCursor.encode(credentials.get(pageSize - 1).id()) : null;
+        return new KeysetPageDTO<>(credentials, nextCursor);
+    }
 
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userEmail));
-        
-        List<CredentialResponseDTO> credentials = credentialRepository.
-                                                findByNamespaceZrnAndUserId(namespaceZrn, user.getId())
-                                                .stream()
-                                                .map(credential -> CredentialMapper.toDTO(credential))
-                                                .toList();
-        return credentials;
+    @Override
+    @Transactional
+    public void writeCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId, JsonGenerator generator) throws IOException {
+        LOG.info("Streaming credentials for namespaceZrn: " + namespaceZrn + " and userId: " + userId);
+
+        // El cursor sigue abierto mientras se escribe: cada fila se serializa y se descarta
+        try (Stream<CredentialSummaryDTO> credentials = credentialRepository.streamSummariesByNamespaceZrnAndUserId(namespaceZrn, userId)) {
+            Iterator<CredentialSummaryDTO> rows = credentials.iterator();
+            while (rows.hasNext()) {
+                generator.writeObject(rows.next());
+            }
+        }
     }
 
     @Override
-    public CredentialResponseDTO getCredentialByZrnAndUserEmail(String zrn, String userEmail) {
-        LOG.info("Getting credential for zrn: " + zrn + " and userEmail: " + userEmail);
+    public CredentialResponseDTO getCredentialByZrnAndUserId(String zrn, Long userId) {
+        LOG.info("Getting credential for zrn: " + zrn + " and userId: " + userId);
 
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userEmail));
-        
         Credential credential = credentialRepository
-                                .findByZrnAndUserId(zrn,  user.getId())
+                                .findByZrnAndUserId(zrn, userId)
                                 .orElseThrow(() -> new ResourceNotFoundException("Credential", zrn));
         
         return CredentialMapper.toDTO(credential);
@@ -69,18 +88,18 @@ public class CredentialServiceImpl implements ICredentialService {
 
     @Override
     @Transactional
-    public CredentialResponseDTO registerCredential(String userEmail, CredentialRequestDTO credentialRequestDTO) {
-        LOG.info("Registering credential for userEmail: " + userEmail);
-        
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userEmail));
+    public CredentialResponseDTO registerCredential(Long userId, CredentialRequestDTO credentialRequestDTO) {
+        LOG.info("Registering credential for userId: " + userId);
 
         CredentialType credentialType = credentialTypeRepository.findByZrn(credentialRequestDTO.credentialTypeZrn())
                 .orElseThrow(() -> new ResourceNotFoundException("CredentialType", credentialRequestDTO.credentialTypeZrn()));
 
-        Namespace namespace = namespaceRepository.findByZrnAndUserId(credentialRequestDTO.namespaceZrn(), user.getId())
+        Namespace namespace = namespaceRepository.findByZrnAndUserId(credentialRequestDTO.namespaceZrn(), userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Namespace", credentialRequestDTO.namespaceZrn()));
         
+        // El usuario ya está validado por el token, basta con una referencia sin consulta
+        User user = userRepository.getReference(userId);
+
         Credential credential = CredentialMapper.toEntity(credentialRequestDTO);
         credential.setZrn(ZrnGenerator.generateCredentialZrn());
         credential.setCredentialType(credentialType);
@@ -94,21 +113,18 @@ public class CredentialServiceImpl implements ICredentialService {
 
     @Override
     @Transactional
-    public CredentialResponseDTO updateCredential(String userEmail, String zrn, CredentialRequestDTO credentialRequestDTO) {
-        LOG.info("Updating credential for zrn: " + zrn + " and userEmail: " + userEmail);
+    public CredentialResponseDTO updateCredential(Long userId, String zrn, CredentialRequestDTO credentialRequestDTO) {
+        LOG.info("Updating credential for zrn: " + zrn + " and userId: " + userId);
 
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userEmail));
-        
         Credential credential = credentialRepository
-                                .findByZrnAndUserId(zrn,  user.getId())
+                                .findByZrnAndUserId(zrn, userId)
                                 .orElseThrow(() -> new ResourceNotFoundException("Credential", zrn));
 
         CredentialType credentialType = credentialTypeRepository.findByZrn(credentialRequestDTO.credentialTypeZrn())
                 .orElseThrow(() -> new ResourceNotFoundException("CredentialType", credentialRequestDTO.credentialTypeZrn()));
 
 
-        Namespace namespace = namespaceRepository.findByZrnAndUserId(credentialRequestDTO.namespaceZrn(), user.getId())
+        Namespace namespace = namespaceRepository.findByZrnAndUserId(credentialRequestDTO.namespaceZrn(), userId)
                 .orElseThrow(() -> new ResourceNotFoundException("Namespace", credentialRequestDTO.namespaceZrn()));
 
         // Actualizar la entidad existente en lugar de crear una nueva
@@ -119,7 +135,6 @@ public class CredentialServiceImpl implements ICredentialService {
         credential.setSshPrivateKey(credentialRequestDTO.sshPrivateKey());
         credential.setSecretText(credentialRequestDTO.secretText());
         credential.setFileName(credentialRequestDTO.fileName());
-        credential.setFileContent(credentialRequestDTO.fileContent());
         credential.setNotes(credentialRequestDTO.notes());
         credential.setCredentialType(credentialType);
         credential.setNamespace(namespace);
@@ -130,14 +145,11 @@ public class CredentialServiceImpl implements ICredentialService {
 
     @Override
     @Transactional
-    public void deleteCredentialByZrnAndUserEmail(String zrn, String userEmail) {
-        LOG.info("Deleting credential for zrn: " + zrn + " and userEmail: " + userEmail);
+    public void deleteCredentialByZrnAndUserId(String zrn, Long userId) {
+        LOG.info("Deleting credential for zrn: " + zrn + " and userId: " + userId);
 
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                .orElseThrow(() -> new ResourceNotFoundException("User", userEmail));
-        
         Credential credential = credentialRepository
-                                .findByZrnAndUserId(zrn,  user.getId())
+                                .findByZrnAndUserId(zrn, userId)
                                 .orElseThrow(() -> new ResourceNotFoundException("Credential", zrn));
 
         credentialRepository.delete(credential);
@@ -1,9 +1,12 @@
 package com.zekret.service.impl;
 
+import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.Claims;
 import org.jboss.logging.Logger;
 
 import com.zekret.exception.InternalServerException;
@@ -17,6 +20,9 @@ import jakarta.enterprise.context.ApplicationScoped;
 @ApplicationScoped
 public class JWTServiceImpl implements IJWTService {
     private static final Logger LOG = Logger.getLogger(JWTServiceImpl.class);
+    private static final int REFRESH_TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
 
     @ConfigProperty(name = "mp.jwt.verify.issuer")
     private String issuer;
@@ -25,7 +31,7 @@ public class JWTServiceImpl implements IJWTService {
     private long expirationTime;
 
     @Override
-    public String generateToken(User user) {
+    public String generateToken(User user, String tokenId, int generation) {
         try {
             LOG.infof("Generating token for user: %s", user.getEmail());
 
@@ -33,6 +39,9 @@ public class JWTServiceImpl implements IJWTService {
                     .upn(user.getEmail())
                     .groups(Set.of("user"))
                     .expiresIn(Duration.ofSeconds(expirationTime))
+                    .claim(Claims.jti.name(), tokenId)
+                    .claim(GENERATION_CLAIM, generation)
+                    .claim(USER_ID_CLAIM, user.getId())
                     .claim("username", user.getUsername())
                     .sign();
                     
@@ -41,5 +50,11 @@ public class JWTServiceImpl implements IJWTService {
             throw new InternalServerException("Error generating JWT token", e);
         }
     }
-    
+
+    @Override
+    public String generateRefreshToken() {
+        byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.zekret.service.impl;
 
-import java.util.List;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import com.zekret.dto.NamespaceCredentialRowDTO;
 import com.zekret.dto.NamespaceRequestDTO;
 import com.zekret.dto.NamespaceResponseDTO;
 import com.zekret.exception.ResourceNotFoundException;
@@ -31,34 +36,41 @@ public class NamespaceServiceImpl implements INamespaceService {
     }
 
     @Override
-    public List<NamespaceResponseDTO> getNamespacesByUserEmail(String userEmail) {
-        LOG.infof("Fetching namespaces for user email: %s", userEmail);
-        
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                        .orElseThrow(() -> {
-                            LOG.warnf("User with email %s not found.", userEmail);
-                            return new ResourceNotFoundException("User", userEmail);
-                        });
-        List<NamespaceResponseDTO> namespaces = namespaceRepository.findByUserId(user.getId())
-                                                .stream()
-                                                .map(ns -> NamespaceMapper.toDTO(ns))
-                                                .toList();
-        return namespaces;
+    @Transactional
+    public void writeNamespacesByUserId(Long userId, JsonGenerator generator) throws IOException {
+        LOG.infof("Streaming namespaces for user ID: %d", userId);
+
+        // Una sola consulta ordenada por namespace: cada namespace se abre al llegar su primera fila
+        // y se cierra al cambiar de namespace, sin acumular sus credenciales en memoria
+        try (Stream<NamespaceCredentialRowDTO> rows = namespaceRepository.streamWithCredentialSummariesByUserId(userId)) {
+            Iterator<NamespaceCredentialRowDTO> iterator = rows.iterator();
+            Long currentNamespaceId = null;
+            while (iterator.hasNext()) {
+                NamespaceCredentialRowDTO row = iterator.next();
+                if (!row.namespaceId().equals(currentNamespaceId)) {
+                    if (currentNamespaceId != null) {
+                        endNamespace(generator);
+                    }
+                    startNamespace(generator, row);
+                    currentNamespaceId = row.namespaceId();
+                }
+                if (row.credential() != null) {
+                    generator.writeObject(row.credential());
+                }
+            }
+            if (currentNamespaceId != null) {
+                endNamespace(generator);
+            }
+        }
     }
 
     @Override
-    public NamespaceResponseDTO getNamespaceByZrnAndUserEmail(String zrn, String userEmail) {
-        LOG.infof("Fetching namespace with ZRN: %s for user email: %s", zrn, userEmail);
+    public NamespaceResponseDTO getNamespaceByZrnAndUserId(String zrn, Long userId) {
+        LOG.infof("Fetching namespace with ZRN: %s for user ID: %d", zrn, userId);
         
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                        .orElseThrow(() -> {
-                            LOG.warnf("User with email %s not found.", userEmail);
-                            return new ResourceNotFoundException("User", userEmail);
-                        });
-
-        Namespace namespace = namespaceRepository.findByZrnAndUserId(zrn, user.getId())
+        Namespace namespace = namespaceRepository.findByZrnAndUserId(zrn, userId)
                                     .orElseThrow(() -> {
-                                        LOG.warnf("Namespace with ZRN %s not found for user %s.", zrn, userEmail);
+                                        LOG.warnf("Namespace with ZRN %s not found for user %d.", zrn, userId);
                                         return new ResourceNotFoundException("Namespace", zrn);
                                     });
         return NamespaceMapper.toDTO(namespace);
@@ -67,14 +79,11 @@ public class NamespaceServiceImpl implements INamespaceService {
 
     @Override
     @Transactional
-    public NamespaceResponseDTO registerNamespace(String userEmail, NamespaceRequestDTO namespace) {
-        LOG.infof("Registering namespace for user email: %s", userEmail);
-
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                        .orElseThrow(() -> {
-                            LOG.warnf("User with email %s not found.", userEmail);
-                            return new ResourceNotFoundException("User", userEmail);
-                        });
+    public NamespaceResponseDTO registerNamespace(Long userId, NamespaceRequestDTO namespace) {
+        LOG.infof("Registering namespace for user ID: %d", userId);
+
+        // El usuario ya está validado por el token, basta con una referencia sin consulta
+        User user = userRepository.getReference(userId);
         
         Namespace entity = NamespaceMapper.toEntity(namespace);
         entity.setZrn(ZrnGenerator.generateNamespaceZrn());
@@ -87,18 +96,12 @@ public class NamespaceServiceImpl implements INamespaceService {
 
     @Override
     @Transactional
-    public NamespaceResponseDTO updateNamespace(String userEmail, String zrn, NamespaceRequestDTO namespace) {
-        LOG.infof("Updating namespace for user email: %s", userEmail);
+    public NamespaceResponseDTO updateNamespace(Long userId, String zrn, NamespaceRequestDTO namespace) {
+        LOG.infof("Updating namespace for user ID: %d", userId);
         
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                        .orElseThrow(() -> {
-                            LOG.warnf("User with email %s not found.", userEmail);
-                            return new ResourceNotFoundException("User", userEmail);
-                        });
-        
-        Namespace existingNamespace = namespaceRepository.findByZrnAndUserId(zrn, user.getId())
+        Namespace existingNamespace = namespaceRepository.findByZrnAndUserId(zrn, userId)
                                         .orElseThrow(() -> {
-                                            LOG.warnf("Namespace with ZRN %s not found for user %s.", zrn, userEmail);
+                                            LOG.warnf("Namespace with ZRN %s not found for user %d.", zrn, userId);
                                             return new ResourceNotFoundException("Namespace", zrn);
                                         });
 
@@ -112,19 +115,32 @@ public class NamespaceServiceImpl implements INamespaceService {
 
     @Override
     @Transactional
-    public void deleteNamespaceByZrnAndUserEmail(String zrn, String userEmail) {
-        LOG.infof("Deleting namespace with ZRN: %s for user email: %s", zrn, userEmail);
-        User user = userRepository.findByEmailOrUsername(userEmail, userEmail)
-                        .orElseThrow(() -> {
-                            LOG.warnf("User with email %s not found.", userEmail);
-                            return new ResourceNotFoundException("User", userEmail);
-                        });
+    public void deleteNamespaceByZrnAndUserId(String zrn, Long userId) {
+        LOG.infof("Deleting namespace with ZRN: %s for user ID: %d", zrn, userId);
         
-        Namespace namespace = namespaceRepository.findByZrnAndUserId(zrn, user.getId())
+        Namespace namespace = namespaceRepository.findByZrnAndUserId(zrn, userId)
                                     .orElseThrow(() -> {
-                                        LOG.warnf("Namespace with ZRN %s not found for user %s.", zrn, userEmail);
+                                        LOG.warnf("Namespace with ZRN %s not found for user %d.", zrn, userId);
                                         return new ResourceNotFoundException("Namespace", zrn);
                                     });
         namespaceRepository.delete(namespace);
     }
+
+    /**
+     * Escribe los campos de NamespaceResponseDTO y abre el array de credenciales
+     */
+    private void startNamespace(JsonGenerator generator, NamespaceCredentialRowDTO row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", row.name());
+        generator.writeStringField("zrn", row.zrn());
+        generator.writeStringField("description", row.description());
+        generator.writeObjectField("createdAt", row.createdAt());
+        generator.writeObjectField("updatedAt", row.updatedAt());
+        generator.writeArrayFieldStart("credentials");
+    }
+
+    private void endNamespace(JsonGenerator generator) throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
 }
\ No newline at end of file
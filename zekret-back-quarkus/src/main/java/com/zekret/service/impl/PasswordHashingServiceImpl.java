@@ -0,0 +1,133 @@
+package com.zekret.service.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.mindrot.jbcrypt.BCrypt;
+
+import com.zekret.exception.InternalServerException;
+import com.zekret.exception.ServiceUnavailableException;
+import com.zekret.service.IPasswordHashingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Runs BCrypt on a dedicated, bounded thread pool.
+ * 
+ * A login storm can only occupy the hashing threads and queue; once the queue is
+ * full new requests are rejected with a 503 instead of tying up the request workers
+ * that serve the rest of the API.
+ */
+@ApplicationScoped
+public class PasswordHashingServiceImpl implements IPasswordHashingService {
+    private static final Logger LOG = Logger.getLogger(PasswordHashingServiceImpl.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejected;
+
+    public PasswordHashingServiceImpl(
+            MeterRegistry registry,
+            @ConfigProperty(name = "password.hashing.threads") int threads,
+            @ConfigProperty(name = "password.hashing.queue-size") int queueSize,
+            @ConfigProperty(name = "password.hashing.timeout-ms") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(
+            threads, threads,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("zekret.password.hashing.duration")
+            .description("Time spent computing BCrypt")
+            .tag("operation", "hash")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        this.verifyTimer = Timer.builder("zekret.password.hashing.duration")
+            .description("Time spent computing BCrypt")
+            .tag("operation", "verify")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        this.rejected = Counter.builder("zekret.password.hashing.rejected")
+            .description("Hashing requests rejected because the executor was saturated")
+            .register(registry);
+        registry.gauge("zekret.password.hashing.queue.size", executor, e -> e.getQueue().size());
+        registry.gauge("zekret.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    @Override
+    public String hash(String password) {
+        return execute(() -> hashTimer.record(() -> BCrypt.hashpw(password, BCrypt.gensalt())));
+    }
+
+    @Override
+    public boolean verify(String password, String hash) {
+        return execute(() -> verifyTimer.record(() -> BCrypt.checkpw(password, hash)));
+    }
+
+    /**
+     * Run a task on the hashing executor and wait for its result.
+     * @throws ServiceUnavailableException if the queue is full or the task does not finish in time
+     */
+    <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            LOG.warnf("Password hashing queue is full (%d queued)", executor.getQueue().size());
+            throw new ServiceUnavailableException("Server is busy, please retry later", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            LOG.warnf("Password hashing did not finish within %d ms", timeoutMs);
+            throw new ServiceUnavailableException("Server is busy, please retry later", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InternalServerException("Error hashing password", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.zekret.service.impl;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.zekret.service.IRateLimiterService;
+import com.zekret.util.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Keeps one token bucket per route class and key (client IP or user).
+ * A full bucket behaves exactly like a new one, so idle buckets can be evicted
+ * without changing the limits. Acquisition only reads the map and consumes the token
+ * with a CAS outside any lock; the evictor removes a bucket only while it is full and
+ * restores it if a concurrent acquisition drained it in the meantime.
+ */
+@ApplicationScoped
+public class RateLimiterServiceImpl implements IRateLimiterService {
+    private static final Logger LOG = Logger.getLogger(RateLimiterServiceImpl.class);
+
+    private final Map<RouteClass, Budget> budgets = new EnumMap<>(RouteClass.class);
+
+    public RateLimiterServiceImpl(
+            MeterRegistry registry,
+            @ConfigProperty(name = "rate-limit.auth.capacity") long authCapacity,
+            @ConfigProperty(name = "rate-limit.auth.refill-per-minute") long authRefillPerMinute,
+            @ConfigProperty(name = "rate-limit.write.capacity") long writeCapacity,
+            @ConfigProperty(name = "rate-limit.write.refill-per-minute") long writeRefillPerMinute) {
+        budgets.put(RouteClass.AUTH, new Budget(RouteClass.AUTH, authCapacity, authRefillPerMinute, registry));
+        budgets.put(RouteClass.WRITE, new Budget(RouteClass.WRITE, writeCapacity, writeRefillPerMinute, registry));
+    }
+
+    @Override
+    public long tryAcquire(RouteClass routeClass, String key) {
+        Budget budget = budgets.get(routeClass);
+        long now = System.nanoTime();
+        // El token se consume fuera del lock del mapa: solo la creación de un bucket nuevo pasa por computeIfAbsent
+        TokenBucket bucket = budget.buckets.get(key);
+        if (bucket == null) {
+            bucket = budget.buckets.computeIfAbsent(key, k -> new TokenBucket(budget.capacity, budget.emissionIntervalNanos, now));
+        }
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            budget.rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    @Override
+    public int evictIdleBuckets() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Budget budget : budgets.values()) {
+            for (Map.Entry<String, TokenBucket> entry : budget.buckets.entrySet()) {
+                TokenBucket bucket = entry.getValue();
+                if (!bucket.isFull(now) || !budget.buckets.remove(entry.getKey(), bucket)) {
+                    continue;
+                }
+                // Un tryAcquire que ya tenía el bucket pudo consumir un token entre isFull y remove:
+                // se vuelve a comprobar y, si dejó de estar lleno, se restaura para no regalar ese token
+                if (!bucket.isFull(now)) {
+                    budget.buckets.putIfAbsent(entry.getKey(), bucket);
+                    continue;
+                }
+                evicted++;
+            }
+        }
+        LOG.debugf("Evicted %d idle rate limit buckets", evicted);
+        return evicted;
+    }
+
+    /**
+     * Ejecución programada de evictIdleBuckets; el scheduler solo admite métodos void
+     */
+    @Scheduled(every = "{rate-limit.eviction.every}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledEviction() {
+        evictIdleBuckets();
+    }
+
+    private static final class Budget {
+        private final long capacity;
+        private final long emissionIntervalNanos;
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter rejected;
+
+        private Budget(RouteClass routeClass, long capacity, long refillPerMinute, MeterRegistry registry) {
+            this.capacity = capacity;
+            this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+            this.rejected = Counter.builder("zekret.ratelimit.rejected")
+                .description("Requests rejected by the rate limiter")
+                .tag("route", routeClass.name().toLowerCase())
+                .register(registry);
+            registry.gaugeMapSize("zekret.ratelimit.buckets", Tags.of("route", routeClass.name().toLowerCase()), buckets);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.zekret.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.zekret.repository.TokenRepository;
+import com.zekret.service.ITokenReaperService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+
+/**
+ * Background job that removes expired and logged out rows from tbl_token.
+ * The deletes are chunked with a pause between chunks so the job never holds
+ * long InnoDB locks while logins keep inserting tokens.
+ */
+@ApplicationScoped
+public class TokenReaperServiceImpl implements ITokenReaperService {
+    private static final Logger LOG = Logger.getLogger(TokenReaperServiceImpl.class);
+
+    private final TokenRepository tokenRepository;
+    private final Counter expiredReaped;
+    private final Counter loggedOutReaped;
+    private final AtomicLong tableSize = new AtomicLong();
+
+    @ConfigProperty(name = "jwt.reaper.retention")
+    long retention;
+
+    @ConfigProperty(name = "jwt.reaper.batch-size")
+    int batchSize;
+
+    @ConfigProperty(name = "jwt.reaper.pause-ms")
+    long pauseMs;
+
+    public TokenReaperServiceImpl(TokenRepository tokenRepository, MeterRegistry registry) {
+        this.tokenRepository = tokenRepository;
+        this.expiredReaped = Counter.builder("zekret.tokens.reaped")
+            .description("Rows deleted from tbl_token by the reaper")
+            .tag("reason", "expired")
+            .register(registry);
+        this.loggedOutReaped = Counter.builder("zekret.tokens.reaped")
+            .description("Rows deleted from tbl_token by the reaper")
+            .tag("reason", "logged_out")
+            .register(registry);
+        registry.gauge("zekret.tokens.table.size", tableSize);
+    }
+
+    @Scheduled(every = "{jwt.reaper.every}", delayed = "{jwt.reaper.every}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    @ActivateRequestContext
+    void scheduledReap() {
+        reap();
+    }
+
+    @Override
+    public long reap() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(retention);
+        LOG.infof("Reaping tokens older than %s", cutoff);
+
+        long expired = deleteInChunks(tokenRepository::deleteExpiredBatch, cutoff);
+        expiredReaped.increment(expired);
+
+        long loggedOut = deleteInChunks(tokenRepository::deleteLoggedOutBatch, cutoff);
+        loggedOutReaped.increment(loggedOut);
+
+        tableSize.set(tokenRepository.count());
+        LOG.infof("Token reaper deleted %d expired and %d logged out tokens, %d remaining", expired, loggedOut, tableSize.get());
+        return expired + loggedOut;
+    }
+
+    /**
+     * Run the given delete until it returns a partial chunk.
+     */
+    private long deleteInChunks(BiFunction<LocalDateTime, Integer, Integer> deleteBatch, LocalDateTime cutoff) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = deleteBatch.apply(cutoff, batchSize);
+            total += deleted;
+            if (deleted == batchSize && !pause()) {
+                break;
+            }
+        } while (deleted == batchSize);
+        return total;
+    }
+
+    /**
+     * Sleep between chunks.
+     * @return false if the thread was interrupted and the job should stop
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Token reaper interrupted, stopping early");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.zekret.service.impl;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zekret.repository.UserRepository;
+import com.zekret.service.ITokenRevocationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * In-memory cache of the current token generation of each user.
+ * A token is valid while its gen claim matches the cached generation, so revoking
+ * every session of a user is a single increment and validating a token is an
+ * integer comparison. The generation is loaded from tbl_user on the first request
+ * of each user.
+ *
+ * The cache is bounded and an entry expires after the refresh token lifetime without
+ * use. tbl_user holds the authoritative generation, so an evicted user is simply
+ * reloaded on their next request.
+ */
+@ApplicationScoped
+public class TokenRevocationServiceImpl implements ITokenRevocationService {
+    private static final Logger LOG = Logger.getLogger(TokenRevocationServiceImpl.class);
+
+    private final ConcurrentMap<String, Integer> generations;
+
+    private final UserRepository userRepository;
+
+    public TokenRevocationServiceImpl(
+            UserRepository userRepository,
+            MeterRegistry registry,
+            @ConfigProperty(name = "jwt.generation.cache.max-size") long maxSize,
+            @ConfigProperty(name = "jwt.refresh.expiration.time") long refreshExpirationTime) {
+        this.userRepository = userRepository;
+        Cache<String, Integer> cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(Duration.ofSeconds(refreshExpirationTime))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "token_generations");
+        // La vista de mapa conserva el merge atómico que usaba el ConcurrentHashMap
+        this.generations = cache.asMap();
+    }
+
+    @Override
+    public boolean isCurrentGeneration(String email, int generation) {
+        if (email == null) {
+            return false;
+        }
+
+        Integer current = generations.get(email);
+        if (current == null) {
+            Optional<Integer> stored = userRepository.findTokenGenerationByEmail(email);
+            if (stored.isEmpty()) {
+                return false;
+            }
+            current = generations.merge(email, stored.get(), Math::max);
+        }
+        return current == generation;
+    }
+
+    @Override
+    public void updateGeneration(String email, int generation) {
+        LOG.debugf("Updating token generation for %s to %d", email, generation);
+        // Generations only grow, so a late update never brings back a revoked generation
+        generations.merge(email, generation, Math::max);
+    }
+}
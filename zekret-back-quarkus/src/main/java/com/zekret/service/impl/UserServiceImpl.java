@@ -8,6 +8,7 @@ import com.zekret.exception.ConflictException;
 import com.zekret.mapper.UserMapper;
 import com.zekret.model.User;
 import com.zekret.repository.UserRepository;
+import com.zekret.service.IPasswordHashingService;
 import com.zekret.service.IUserService;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -18,8 +19,11 @@ public class UserServiceImpl implements IUserService {
    
     private final UserRepository userRepository;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    private final IPasswordHashingService passwordHashingService;
+
+    public UserServiceImpl(UserRepository userRepository, IPasswordHashingService passwordHashingService) {
         this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
     }
 
     @Override
@@ -33,7 +37,7 @@ public class UserServiceImpl implements IUserService {
             throw new ConflictException("Email or username already in use");
         }
 
-        User newUser = UserMapper.toEntity(userRequestDTO);
+        User newUser = UserMapper.toEntity(userRequestDTO, passwordHashingService.hash(userRequestDTO.password()));
         userRepository.persist(newUser);
         LOG.infof("User registered successfully: %s", newUser.getUsername());
 
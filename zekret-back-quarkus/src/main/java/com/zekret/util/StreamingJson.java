@@ -0,0 +1,57 @@
+package com.zekret.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Utilidad para escribir respuestas JSON de listados sin materializarlas.
+ *
+ * Produce el mismo sobre que APIResponseDTO.success (success, message, data, statusCode,
+ * timestamp), pero el array "data" lo escribe elemento a elemento quien llama, normalmente
+ * desde un cursor de base de datos, de modo que la memoria no depende del número de filas.
+ */
+public class StreamingJson {
+
+    /**
+     * Escribe los elementos del array "data" sobre el generador recibido
+     */
+    @FunctionalInterface
+    public interface ItemsWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    private StreamingJson() {
+    }
+
+    /**
+     * Escribe una respuesta de éxito cuyo campo "data" es un array generado en streaming
+     *
+     * @param objectMapper ObjectMapper de la aplicación, para serializar fechas y DTOs igual que el resto de respuestas
+     * @param output Flujo de salida de la respuesta HTTP
+     * @param message Mensaje de la respuesta
+     * @param statusCode Código de estado de la respuesta
+     * @param items Escritor de los elementos del array
+     * @throws IOException si falla la escritura
+     */
+    public static void writeSuccess(ObjectMapper objectMapper, OutputStream output, String message, int statusCode,
+                                    ItemsWriter items) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            // El contenedor cierra la respuesta; el generador solo debe vaciar su buffer
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+            generator.writeArrayFieldStart("data");
+            items.write(generator);
+            generator.writeEndArray();
+            generator.writeNumberField("statusCode", statusCode);
+            generator.writeObjectField("timestamp", LocalDateTime.now());
+            generator.writeEndObject();
+        }
+    }
+}
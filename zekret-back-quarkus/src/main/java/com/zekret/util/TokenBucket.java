@@ -0,0 +1,57 @@
+package com.zekret.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin bloqueos basado en el algoritmo GCRA (Generic Cell Rate Algorithm).
+ * 
+ * En lugar de guardar el número de tokens y la hora del último relleno, guarda un único
+ * valor: el instante teórico en el que el bucket volverá a estar lleno. Así cada petición
+ * se resuelve con una operación compareAndSet sobre un AtomicLong, sin locks ni objetos nuevos.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param capacity Número máximo de peticiones permitidas en ráfaga
+     * @param emissionIntervalNanos Tiempo en nanosegundos para recuperar un token
+     * @param now Instante actual en nanosegundos (System.nanoTime)
+     */
+    public TokenBucket(long capacity, long emissionIntervalNanos, long now) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstNanos = capacity * emissionIntervalNanos;
+        this.theoreticalArrival = new AtomicLong(now);
+    }
+
+    /**
+     * Intenta consumir un token
+     * 
+     * @param now Instante actual en nanosegundos (System.nanoTime)
+     * @return 0 si se consumió el token, o los nanosegundos que faltan para que haya uno disponible
+     */
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Indica si el bucket está lleno, es decir, si eliminarlo no cambia el resultado de futuras peticiones
+     * 
+     * @param now Instante actual en nanosegundos (System.nanoTime)
+     */
+    public boolean isFull(long now) {
+        return theoreticalArrival.get() - now <= 0;
+    }
+}
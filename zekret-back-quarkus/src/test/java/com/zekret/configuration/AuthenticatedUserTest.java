@@ -0,0 +1,68 @@
+package com.zekret.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zekret.exception.UnauthorizedException;
+
+class AuthenticatedUserTest {
+
+    private JsonWebToken jwt;
+    private AuthenticatedUser authenticatedUser;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        jwt = mock(JsonWebToken.class);
+        authenticatedUser = new AuthenticatedUser(jwt);
+
+        when(jwt.getName()).thenReturn("test@example.com");
+    }
+
+    @Test
+    void testGetId_ReadsUserIdClaim() {
+        // Arrange
+        when(jwt.getClaim("uid")).thenReturn(42L);
+
+        // Act
+        Long id = authenticatedUser.getId();
+
+        // Assert
+        assertEquals(42L, id);
+    }
+
+    @Test
+    void testGetId_ReadsClaimOnlyOnce() {
+        // Arrange
+        when(jwt.getClaim("uid")).thenReturn(42L);
+
+        // Act
+        authenticatedUser.getId();
+        authenticatedUser.getId();
+
+        // Assert
+        verify(jwt, times(1)).getClaim("uid");
+    }
+
+    @Test
+    void testGetId_MissingClaim_ThrowsException() {
+        // Arrange
+        when(jwt.getClaim("uid")).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> authenticatedUser.getId());
+    }
+
+    @Test
+    void testGetEmail_ReturnsPrincipalName() {
+        // Act & Assert
+        assertEquals("test@example.com", authenticatedUser.getEmail());
+    }
+}
@@ -0,0 +1,108 @@
+package com.zekret.configuration;
+
+import java.security.Principal;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zekret.exception.UnauthorizedException;
+import com.zekret.service.ITokenRevocationService;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import jakarta.ws.rs.container.ContainerRequestContext;
+
+class JWTAuthFilterTest {
+
+    private ITokenRevocationService tokenRevocationService;
+    private SecurityIdentity securityIdentity;
+    private JsonWebToken jwt;
+    private ContainerRequestContext requestContext;
+    private JWTAuthFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        tokenRevocationService = mock(ITokenRevocationService.class);
+        securityIdentity = mock(SecurityIdentity.class);
+        jwt = mock(JsonWebToken.class);
+        requestContext = mock(ContainerRequestContext.class);
+        filter = new JWTAuthFilter(tokenRevocationService, securityIdentity, jwt);
+
+        Principal principal = () -> "test@example.com";
+        when(securityIdentity.isAnonymous()).thenReturn(false);
+        when(securityIdentity.getPrincipal()).thenReturn(principal);
+        when(requestContext.getHeaderString("Authorization")).thenReturn("Bearer header.payload.signature");
+        when(jwt.getName()).thenReturn("test@example.com");
+        when(jwt.getClaim("gen")).thenReturn(2L);
+        when(jwt.getExpirationTime()).thenReturn(Instant.now().plusSeconds(3600).getEpochSecond());
+    }
+
+    @Test
+    void testFilter_AnonymousRequest() {
+        // Arrange
+        when(securityIdentity.isAnonymous()).thenReturn(true);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> filter.filter(requestContext));
+        verify(tokenRevocationService, never()).isCurrentGeneration(anyString(), anyInt());
+    }
+
+    @Test
+    void testFilter_ActiveToken() {
+        // Arrange
+        when(tokenRevocationService.isCurrentGeneration("test@example.com", 2)).thenReturn(true);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> filter.filter(requestContext));
+        verify(tokenRevocationService).isCurrentGeneration("test@example.com", 2);
+    }
+
+    @Test
+    void testFilter_MissingAuthorizationHeader() {
+        // Arrange
+        when(requestContext.getHeaderString("Authorization")).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> filter.filter(requestContext));
+        verify(tokenRevocationService, never()).isCurrentGeneration(anyString(), anyInt());
+    }
+
+    @Test
+    void testFilter_MissingGenerationClaim() {
+        // Arrange
+        when(jwt.getClaim("gen")).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> filter.filter(requestContext));
+        verify(tokenRevocationService, never()).isCurrentGeneration(anyString(), anyInt());
+    }
+
+    @Test
+    void testFilter_RevokedToken() {
+        // Arrange
+        when(tokenRevocationService.isCurrentGeneration("test@example.com", 2)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> filter.filter(requestContext));
+    }
+
+    @Test
+    void testFilter_ExpiredToken() {
+        // Arrange
+        when(tokenRevocationService.isCurrentGeneration("test@example.com", 2)).thenReturn(true);
+        when(jwt.getExpirationTime()).thenReturn(Instant.now().minusSeconds(60).getEpochSecond());
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> filter.filter(requestContext));
+    }
+}
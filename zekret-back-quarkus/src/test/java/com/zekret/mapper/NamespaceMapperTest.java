@@ -9,7 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
-import com.zekret.dto.CredentialResponseDTO;
+import com.zekret.dto.CredentialSummaryDTO;
 import com.zekret.dto.NamespaceRequestDTO;
 import com.zekret.dto.NamespaceResponseDTO;
 import com.zekret.model.Credential;
@@ -105,9 +105,9 @@ class NamespaceMapperTest {
         assertNotNull(dto.credentials());
         assertEquals(1, dto.credentials().size());
         
-        CredentialResponseDTO credDto = dto.credentials().get(0);
+        CredentialSummaryDTO credDto = dto.credentials().get(0);
         assertEquals("Test Credential", credDto.title());
-        assertEquals("testuser", credDto.username());
+        assertEquals("SSH Credential", credDto.credentialType().name());
     }
 
     @Test
@@ -221,7 +221,7 @@ class NamespaceMapperTest {
         
         // Verify each credential
         for (int i = 0; i < 3; i++) {
-            CredentialResponseDTO credDto = dto.credentials().get(i);
+            CredentialSummaryDTO credDto = dto.credentials().get(i);
             assertNotNull(credDto);
             assertEquals("Credential " + (i + 1), credDto.title());
         }
@@ -22,7 +22,7 @@ class UserMapperTest {
             "password123"
         );
 
-        User user = UserMapper.toEntity(dto);
+        User user = UserMapper.toEntity(dto, BCrypt.hashpw(dto.password(), BCrypt.gensalt()));
 
         assertNotNull(user);
         assertEquals(dto.email(), user.getEmail());
@@ -39,7 +39,7 @@ class UserMapperTest {
             "securePassword!"
         );
 
-        User user = UserMapper.toEntity(dto);
+        User user = UserMapper.toEntity(dto, BCrypt.hashpw(dto.password(), BCrypt.gensalt()));
 
         assertNotNull(user);
         assertNotNull(user.getEmail());
@@ -111,7 +111,7 @@ class UserMapperTest {
         );
 
         // Convert to entity
-        User user = UserMapper.toEntity(requestDTO);
+        User user = UserMapper.toEntity(requestDTO, BCrypt.hashpw(requestDTO.password(), BCrypt.gensalt()));
         user.setEnabled(true);
         user.prePersist();
 
@@ -132,7 +132,7 @@ class UserMapperTest {
         String testPassword = "exactPassword123!";
         
         UserRequestDTO dto = new UserRequestDTO(testEmail, testUsername, testPassword);
-        User user = UserMapper.toEntity(dto);
+        User user = UserMapper.toEntity(dto, BCrypt.hashpw(dto.password(), BCrypt.gensalt()));
 
         assertEquals(testEmail, user.getEmail());
         assertEquals(testUsername, user.getUsername());
@@ -0,0 +1,38 @@
+package com.zekret.repository;
+
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zekret.dto.CredentialSummaryDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+class CredentialRepositoryTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindSummaryPageByNamespaceZrnAndUserId_ReadsOneExtraRow() {
+        // Arrange
+        EntityManager entityManager = mock(EntityManager.class);
+        TypedQuery<CredentialSummaryDTO> query = mock(TypedQuery.class, RETURNS_SELF);
+        when(entityManager.createQuery(anyString(), eq(CredentialSummaryDTO.class))).thenReturn(query);
+
+        CredentialRepository credentialRepository = spy(new CredentialRepository());
+        doReturn(entityManager).when(credentialRepository).getEntityManager();
+
+        // Act
+        credentialRepository.findSummaryPageByNamespaceZrnAndUserId("zrn:zekret:namespace:20250715:ns-123", 1L, 42L, 10);
+
+        // Assert - one row more than the page size, so the service can tell whether there is a next page
+        verify(query).setMaxResults(11);
+        verify(query).setParameter("afterId", 42L);
+    }
+}
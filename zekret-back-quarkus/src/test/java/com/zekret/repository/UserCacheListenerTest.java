@@ -0,0 +1,40 @@
+package com.zekret.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.zekret.model.User;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+
+@QuarkusTest
+class UserCacheListenerTest {
+
+    @InjectMock
+    UserRepository userRepository;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        reset(userRepository);
+    }
+
+    @Test
+    void testOnWrite_InvalidatesCachedUser() {
+        // Arrange
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+        user.setUsername("testuser");
+
+        // Act
+        new UserCacheListener().onWrite(user);
+
+        // Assert
+        verify(userRepository, times(1)).invalidate(user);
+    }
+}
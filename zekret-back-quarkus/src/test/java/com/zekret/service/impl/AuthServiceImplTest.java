@@ -1,7 +1,9 @@
 package com.zekret.service.impl;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.mindrot.jbcrypt.BCrypt;
 import org.mockito.ArgumentCaptor;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -31,6 +34,8 @@ import com.zekret.model.User;
 import com.zekret.repository.TokenRepository;
 import com.zekret.repository.UserRepository;
 import com.zekret.service.IJWTService;
+import com.zekret.service.ITokenRevocationService;
+import com.zekret.util.TokenHasher;
 
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
@@ -48,6 +53,9 @@ class AuthServiceImplTest {
     @InjectMock
     IJWTService jwtService;
 
+    @InjectMock
+    ITokenRevocationService tokenRevocationService;
+
     @Inject
     AuthServiceImpl authService;
 
@@ -56,7 +64,7 @@ class AuthServiceImplTest {
     @BeforeEach
     @SuppressWarnings("unused")
     void setUp() {
-        reset(userRepository, tokenRepository, jwtService);
+        reset(userRepository, tokenRepository, jwtService, tokenRevocationService);
         
         // Create a test user with BCrypt hashed password
         testUser = new User();
@@ -72,9 +80,9 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmailOrUsername(anyString(), anyString()))
             .thenReturn(Optional.of(testUser));
-        when(jwtService.generateToken(any(User.class)))
+        when(jwtService.generateToken(any(User.class), anyString(), anyInt()))
             .thenReturn("generated.jwt.token");
-        doNothing().when(tokenRepository).invalidateTokensByUserId(anyLong());
+        when(jwtService.generateRefreshToken()).thenReturn("generated.refresh.token");
         doNothing().when(tokenRepository).persist(any(Token.class));
 
         // Act
@@ -83,12 +91,12 @@ class AuthServiceImplTest {
         // Assert
         assertNotNull(response);
         assertEquals("generated.jwt.token", response.access_token());
-        assertEquals("", response.refresh_token());
+        assertEquals("generated.refresh.token", response.refresh_token());
         assertEquals("Login successful", response.message());
 
         verify(userRepository, times(1)).findByEmailOrUsername("testuser", "testuser");
-        verify(jwtService, times(1)).generateToken(testUser);
-        verify(tokenRepository, times(1)).invalidateTokensByUserId(1L);
+        verify(jwtService, times(1)).generateToken(eq(testUser), anyString(), anyInt());
+        verify(userRepository, times(1)).incrementTokenGeneration(1L);
         verify(tokenRepository, times(1)).persist(any(Token.class));
     }
 
@@ -106,7 +114,7 @@ class AuthServiceImplTest {
 
         assertTrue(exception.getMessage().contains("nonexistent"));
         verify(userRepository, times(1)).findByEmailOrUsername("nonexistent", "nonexistent");
-        verify(jwtService, never()).generateToken(any(User.class));
+        verify(jwtService, never()).generateToken(any(User.class), anyString(), anyInt());
         verify(tokenRepository, never()).persist(any(Token.class));
     }
 
@@ -125,7 +133,7 @@ class AuthServiceImplTest {
 
         assertEquals("User account is disabled", exception.getMessage());
         verify(userRepository, times(1)).findByEmailOrUsername("testuser", "testuser");
-        verify(jwtService, never()).generateToken(any(User.class));
+        verify(jwtService, never()).generateToken(any(User.class), anyString(), anyInt());
         verify(tokenRepository, never()).persist(any(Token.class));
     }
 
@@ -143,7 +151,7 @@ class AuthServiceImplTest {
 
         assertEquals("Invalid credentials", exception.getMessage());
         verify(userRepository, times(1)).findByEmailOrUsername("testuser", "testuser");
-        verify(jwtService, never()).generateToken(any(User.class));
+        verify(jwtService, never()).generateToken(any(User.class), anyString(), anyInt());
         verify(tokenRepository, never()).persist(any(Token.class));
     }
 
@@ -152,9 +160,8 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmailOrUsername(anyString(), anyString()))
             .thenReturn(Optional.of(testUser));
-        when(jwtService.generateToken(any(User.class)))
+        when(jwtService.generateToken(any(User.class), anyString(), anyInt()))
             .thenReturn("jwt.token.email");
-        doNothing().when(tokenRepository).invalidateTokensByUserId(anyLong());
         doNothing().when(tokenRepository).persist(any(Token.class));
 
         // Act
@@ -171,16 +178,15 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmailOrUsername(anyString(), anyString()))
             .thenReturn(Optional.of(testUser));
-        when(jwtService.generateToken(any(User.class)))
+        when(jwtService.generateToken(any(User.class), anyString(), anyInt()))
             .thenReturn("new.jwt.token");
-        doNothing().when(tokenRepository).invalidateTokensByUserId(anyLong());
         doNothing().when(tokenRepository).persist(any(Token.class));
 
         // Act
         authService.authenticate("testuser", "password123");
 
         // Assert
-        verify(tokenRepository, times(1)).invalidateTokensByUserId(testUser.getId());
+        verify(userRepository, times(1)).incrementTokenGeneration(testUser.getId());
     }
 
     @Test
@@ -188,9 +194,9 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmailOrUsername(anyString(), anyString()))
             .thenReturn(Optional.of(testUser));
-        when(jwtService.generateToken(any(User.class)))
+        when(jwtService.generateToken(any(User.class), anyString(), anyInt()))
             .thenReturn("persisted.jwt.token");
-        doNothing().when(tokenRepository).invalidateTokensByUserId(anyLong());
+        when(jwtService.generateRefreshToken()).thenReturn("persisted.refresh.token");
 
         ArgumentCaptor<Token> tokenCaptor = ArgumentCaptor.forClass(Token.class);
         doNothing().when(tokenRepository).persist(tokenCaptor.capture());
@@ -201,10 +207,35 @@ class AuthServiceImplTest {
         // Assert
         Token capturedToken = tokenCaptor.getValue();
         assertNotNull(capturedToken);
-        assertEquals("persisted.jwt.token", capturedToken.getAccessToken());
-        assertEquals("", capturedToken.getRefreshToken());
+        assertArrayEquals(TokenHasher.sha256("persisted.jwt.token"), capturedToken.getAccessTokenHash());
+        assertArrayEquals(TokenHasher.sha256("persisted.refresh.token"), capturedToken.getRefreshTokenHash());
+        assertTrue(capturedToken.getExpiresAt().isAfter(LocalDateTime.now()));
         assertFalse(capturedToken.isLoggedOut());
         assertEquals(testUser, capturedToken.getUser());
+        assertNotNull(capturedToken.getTokenId());
+    }
+
+    @Test
+    void testAuthenticate_IncrementsTokenGeneration() {
+        // Arrange
+        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
+            .thenReturn(Optional.of(testUser));
+        when(userRepository.incrementTokenGeneration(testUser.getId())).thenReturn(7);
+        when(jwtService.generateToken(any(User.class), anyString(), anyInt()))
+            .thenReturn("generation.jwt.token");
+
+        ArgumentCaptor<String> tokenIdCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Token> tokenCaptor = ArgumentCaptor.forClass(Token.class);
+        doNothing().when(tokenRepository).persist(tokenCaptor.capture());
+
+        // Act
+        authService.authenticate("testuser", "password123");
+
+        // Assert
+        verify(jwtService, times(1)).generateToken(eq(testUser), tokenIdCaptor.capture(), eq(7));
+        verify(tokenRevocationService, times(1)).updateGeneration("test@example.com", 7);
+        assertEquals(tokenIdCaptor.getValue(), tokenCaptor.getValue().getTokenId());
+        assertEquals(7, tokenCaptor.getValue().getGeneration());
     }
 
     @Test
@@ -212,14 +243,13 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmailOrUsername(anyString(), anyString()))
             .thenReturn(Optional.of(testUser));
-        doNothing().when(tokenRepository).invalidateTokensByUserId(anyLong());
 
         // Act
         assertDoesNotThrow(() -> authService.logout("test@example.com"));
 
         // Assert
         verify(userRepository, times(1)).findByEmailOrUsername("test@example.com", "test@example.com");
-        verify(tokenRepository, times(1)).invalidateTokensByUserId(testUser.getId());
+        verify(userRepository, times(1)).incrementTokenGeneration(testUser.getId());
     }
 
     @Test
@@ -236,7 +266,7 @@ class AuthServiceImplTest {
 
         assertTrue(exception.getMessage().contains("nonexistent@example.com"));
         verify(userRepository, times(1)).findByEmailOrUsername("nonexistent@example.com", "nonexistent@example.com");
-        verify(tokenRepository, never()).invalidateTokensByUserId(anyLong());
+        verify(userRepository, never()).incrementTokenGeneration(anyLong());
     }
 
     @Test
@@ -244,14 +274,13 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmailOrUsername(anyString(), anyString()))
             .thenReturn(Optional.of(testUser));
-        doNothing().when(tokenRepository).invalidateTokensByUserId(anyLong());
 
         // Act
         assertDoesNotThrow(() -> authService.logout("testuser"));
 
         // Assert
         verify(userRepository, times(1)).findByEmailOrUsername("testuser", "testuser");
-        verify(tokenRepository, times(1)).invalidateTokensByUserId(testUser.getId());
+        verify(userRepository, times(1)).incrementTokenGeneration(testUser.getId());
     }
 
     @Test
@@ -259,13 +288,13 @@ class AuthServiceImplTest {
         // Arrange
         when(userRepository.findByEmailOrUsername(anyString(), anyString()))
             .thenReturn(Optional.of(testUser));
-        doNothing().when(tokenRepository).invalidateTokensByUserId(anyLong());
 
         // Act
         authService.logout("test@example.com");
 
         // Assert
-        verify(tokenRepository, times(1)).invalidateTokensByUserId(eq(1L));
+        verify(userRepository, times(1)).incrementTokenGeneration(eq(1L));
+        verify(tokenRevocationService, times(1)).updateGeneration(eq("test@example.com"), anyInt());
     }
 
     @Test
@@ -297,4 +326,157 @@ class AuthServiceImplTest {
         
         assertNotNull(exception);
     }
+
+    @Test
+    void testRefresh_Success() {
+        // Arrange
+        Token currentToken = createStoredToken(false, LocalDateTime.now().plusDays(1));
+        when(tokenRepository.findByRefreshToken("current.refresh.token")).thenReturn(Optional.of(currentToken));
+        when(tokenRepository.invalidateToken(currentToken.getId())).thenReturn(true);
+        when(jwtService.generateToken(any(User.class), anyString(), anyInt())).thenReturn("refreshed.jwt.token");
+        when(jwtService.generateRefreshToken()).thenReturn("rotated.refresh.token");
+
+        ArgumentCaptor<Token> tokenCaptor = ArgumentCaptor.forClass(Token.class);
+        doNothing().when(tokenRepository).persist(tokenCaptor.capture());
+
+        // Act
+        AuthResponseDTO response = authService.refresh("current.refresh.token");
+
+        // Assert
+        assertEquals("refreshed.jwt.token", response.access_token());
+        assertEquals("rotated.refresh.token", response.refresh_token());
+        assertArrayEquals(TokenHasher.sha256("rotated.refresh.token"), tokenCaptor.getValue().getRefreshTokenHash());
+        verify(tokenRepository, times(1)).invalidateToken(currentToken.getId());
+        verify(jwtService, times(1)).generateToken(eq(testUser), anyString(), eq(currentToken.getGeneration()));
+        verify(userRepository, never()).incrementTokenGeneration(anyLong());
+        verify(userRepository, never()).findByEmailOrUsername(anyString(), anyString());
+    }
+
+    @Test
+    void testRefresh_UnknownToken_ThrowsUnauthorizedException() {
+        // Arrange
+        when(tokenRepository.findByRefreshToken(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(
+            UnauthorizedException.class,
+            () -> authService.refresh("unknown.refresh.token")
+        );
+
+        assertEquals("Invalid refresh token", exception.getMessage());
+        verify(tokenRepository, never()).persist(any(Token.class));
+    }
+
+    @Test
+    void testRefresh_ReusedToken_RevokesSession() {
+        // Arrange
+        Token usedToken = createStoredToken(true, LocalDateTime.now().plusDays(1));
+        when(tokenRepository.findByRefreshToken("used.refresh.token")).thenReturn(Optional.of(usedToken));
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(
+            UnauthorizedException.class,
+            () -> authService.refresh("used.refresh.token")
+        );
+
+        assertEquals("Refresh token has already been used", exception.getMessage());
+        verify(userRepository, times(1)).incrementTokenGeneration(testUser.getId());
+        verify(tokenRevocationService, times(1)).updateGeneration(eq("test@example.com"), anyInt());
+        verify(jwtService, never()).generateToken(any(User.class), anyString(), anyInt());
+        verify(tokenRepository, never()).persist(any(Token.class));
+    }
+
+    @Test
+    void testRefresh_ConcurrentUse_RevokesSession() {
+        // Arrange
+        Token currentToken = createStoredToken(false, LocalDateTime.now().plusDays(1));
+        when(tokenRepository.findByRefreshToken("raced.refresh.token")).thenReturn(Optional.of(currentToken));
+        when(tokenRepository.invalidateToken(currentToken.getId())).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(UnauthorizedException.class, () -> authService.refresh("raced.refresh.token"));
+
+        verify(userRepository, times(1)).incrementTokenGeneration(testUser.getId());
+        verify(tokenRepository, never()).persist(any(Token.class));
+    }
+
+    @Test
+    void testRefresh_RevokedGeneration_ThrowsUnauthorizedException() {
+        // Arrange
+        Token staleToken = createStoredToken(false, LocalDateTime.now().plusDays(1));
+        testUser.setTokenGeneration(staleToken.getGeneration() + 1);
+        when(tokenRepository.findByRefreshToken("stale.refresh.token")).thenReturn(Optional.of(staleToken));
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(
+            UnauthorizedException.class,
+            () -> authService.refresh("stale.refresh.token")
+        );
+
+        assertEquals("Session has been revoked", exception.getMessage());
+        verify(tokenRepository, never()).invalidateToken(anyLong());
+        verify(tokenRepository, never()).persist(any(Token.class));
+    }
+
+    @Test
+    void testRefresh_ExpiredToken_ThrowsUnauthorizedException() {
+        // Arrange
+        Token expiredToken = createStoredToken(false, LocalDateTime.now().minusMinutes(1));
+        when(tokenRepository.findByRefreshToken("expired.refresh.token")).thenReturn(Optional.of(expiredToken));
+        when(tokenRepository.invalidateToken(expiredToken.getId())).thenReturn(true);
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(
+            UnauthorizedException.class,
+            () -> authService.refresh("expired.refresh.token")
+        );
+
+        assertEquals("Refresh token has expired", exception.getMessage());
+        verify(tokenRepository, never()).persist(any(Token.class));
+    }
+
+    @Test
+    void testRefresh_SessionWithoutExpiry_ThrowsUnauthorizedException() {
+        // Arrange - rows written by the Spring backend in the shared tbl_token have no expires_at
+        Token foreignToken = createStoredToken(false, null);
+        when(tokenRepository.findByRefreshToken("foreign.refresh.token")).thenReturn(Optional.of(foreignToken));
+        when(tokenRepository.invalidateToken(foreignToken.getId())).thenReturn(true);
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(
+            UnauthorizedException.class,
+            () -> authService.refresh("foreign.refresh.token")
+        );
+
+        assertEquals("Refresh token has expired", exception.getMessage());
+        verify(tokenRepository, never()).persist(any(Token.class));
+    }
+
+    @Test
+    void testRefresh_DisabledUser_ThrowsUnauthorizedException() {
+        // Arrange
+        testUser.setEnabled(false);
+        Token currentToken = createStoredToken(false, LocalDateTime.now().plusDays(1));
+        when(tokenRepository.findByRefreshToken("current.refresh.token")).thenReturn(Optional.of(currentToken));
+        when(tokenRepository.invalidateToken(currentToken.getId())).thenReturn(true);
+
+        // Act & Assert
+        UnauthorizedException exception = assertThrows(
+            UnauthorizedException.class,
+            () -> authService.refresh("current.refresh.token")
+        );
+
+        assertEquals("User account is disabled", exception.getMessage());
+        verify(tokenRepository, never()).persist(any(Token.class));
+    }
+
+    private Token createStoredToken(boolean loggedOut, LocalDateTime expiresAt) {
+        Token token = new Token();
+        token.setId(10L);
+        token.setTokenId("stored-token-id");
+        token.setUser(testUser);
+        token.setLoggedOut(loggedOut);
+        token.setExpiresAt(expiresAt);
+        return token;
+    }
 }
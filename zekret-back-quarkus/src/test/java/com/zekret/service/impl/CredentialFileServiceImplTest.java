@@ -0,0 +1,195 @@
+package com.zekret.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zekret.dto.CredentialFileDTO;
+import com.zekret.exception.BadRequestException;
+import com.zekret.exception.ResourceNotFoundException;
+import com.zekret.model.Credential;
+import com.zekret.model.CredentialFileChunk;
+import com.zekret.repository.CredentialFileChunkRepository;
+import com.zekret.repository.CredentialRepository;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class CredentialFileServiceImplTest {
+
+    @InjectMock
+    CredentialRepository credentialRepository;
+
+    @InjectMock
+    CredentialFileChunkRepository chunkRepository;
+
+    @Inject
+    CredentialFileServiceImpl credentialFileService;
+
+    private Credential testCredential;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        reset(credentialRepository, chunkRepository);
+
+        testCredential = new Credential();
+        testCredential.setId(1L);
+        testCredential.setTitle("Config file");
+        testCredential.setZrn("zrn:zekret:credential:20250715:file-123");
+        testCredential.setFileName("config.yml");
+    }
+
+    @Test
+    void testUploadFile_SplitsContentIntoChunks() {
+        // Arrange
+        byte[] content = new byte[CredentialFileChunk.CHUNK_SIZE * 2 + 10];
+        content[content.length - 1] = 42;
+
+        when(credentialRepository.findByZrnAndUserId(anyString(), anyLong()))
+            .thenReturn(Optional.of(testCredential));
+
+        // Act
+        CredentialFileDTO result = credentialFileService.uploadFile(
+            1L, testCredential.getZrn(), "app.bin", new ByteArrayInputStream(content)
+        );
+
+        // Assert
+        assertEquals("app.bin", result.fileName());
+        assertEquals(content.length, result.fileSize());
+        assertEquals(content.length, testCredential.getFileSize());
+
+        ArgumentCaptor<CredentialFileChunk> captor = ArgumentCaptor.forClass(CredentialFileChunk.class);
+        verify(chunkRepository, times(3)).persistAndRelease(captor.capture());
+        List<CredentialFileChunk> chunks = captor.getAllValues();
+        assertEquals(CredentialFileChunk.CHUNK_SIZE, chunks.get(0).getData().length);
+        assertEquals(2, chunks.get(2).getSeq());
+        assertEquals(10, chunks.get(2).getData().length);
+        assertEquals(42, chunks.get(2).getData()[9]);
+
+        verify(chunkRepository, times(1)).deleteByCredentialId(1L);
+    }
+
+    @Test
+    void testUploadFile_KeepsFileNameWhenNotGiven() {
+        // Arrange
+        when(credentialRepository.findByZrnAndUserId(anyString(), anyLong()))
+            .thenReturn(Optional.of(testCredential));
+
+        // Act
+        CredentialFileDTO result = credentialFileService.uploadFile(
+            1L, testCredential.getZrn(), null, new ByteArrayInputStream(new byte[] { 1, 2, 3 })
+        );
+
+        // Assert
+        assertEquals("config.yml", result.fileName());
+        assertEquals(3L, result.fileSize());
+    }
+
+    @Test
+    void testUploadFile_CredentialNotFound_ThrowsException() {
+        // Arrange
+        when(credentialRepository.findByZrnAndUserId(anyString(), anyLong()))
+            .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            credentialFileService.uploadFile(1L, "zrn:zekret:credential:missing", null, new ByteArrayInputStream(new byte[0]))
+        );
+
+        verify(chunkRepository, never()).persistAndRelease(any());
+    }
+
+    @Test
+    void testUploadFile_UnreadableBody_ThrowsBadRequest() {
+        // Arrange
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        when(credentialRepository.findByZrnAndUserId(anyString(), anyLong()))
+            .thenReturn(Optional.of(testCredential));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () ->
+            credentialFileService.uploadFile(1L, testCredential.getZrn(), null, broken)
+        );
+    }
+
+    @Test
+    void testUploadFile_TooLarge_ThrowsBadRequestWithoutTouchingStoredFile() {
+        // Arrange - credential.file.max-size is 262144 bytes in the test profile
+        byte[] content = new byte[262144 + 1];
+
+        when(credentialRepository.findByZrnAndUserId(anyString(), anyLong()))
+            .thenReturn(Optional.of(testCredential));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () ->
+            credentialFileService.uploadFile(1L, testCredential.getZrn(), null, new ByteArrayInputStream(content))
+        );
+
+        verify(chunkRepository, never()).deleteByCredentialId(anyLong());
+        verify(chunkRepository, never()).persistAndRelease(any());
+    }
+
+    @Test
+    void testGetFile_WithoutFile_ThrowsException() {
+        // Arrange
+        when(credentialRepository.findByZrnAndUserId(anyString(), anyLong()))
+            .thenReturn(Optional.of(testCredential));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            credentialFileService.getFile(testCredential.getZrn(), 1L)
+        );
+    }
+
+    @Test
+    void testWriteFile_WritesChunksInOrder() throws IOException {
+        // Arrange
+        testCredential.setFileSize(5L);
+
+        when(credentialRepository.findByZrnAndUserId(anyString(), anyLong()))
+            .thenReturn(Optional.of(testCredential));
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(chunkRepository.streamDataByCredentialId(1L))
+            .thenReturn(Stream.of(new byte[] { 1, 2, 3 }, new byte[] { 4, 5 }).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        credentialFileService.writeFile(testCredential.getZrn(), 1L, output);
+
+        // Assert
+        assertArrayEquals(new byte[] { 1, 2, 3, 4, 5 }, output.toByteArray());
+        assertTrue(closed.get());
+        verify(chunkRepository, times(1)).streamDataByCredentialId(1L);
+    }
+}
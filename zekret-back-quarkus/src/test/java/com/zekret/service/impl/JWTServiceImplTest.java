@@ -1,5 +1,9 @@
 package com.zekret.service.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -34,7 +38,7 @@ class JWTServiceImplTest {
     @Test
     void testGenerateToken_Success() {
         // Act
-        String token = jwtService.generateToken(testUser);
+        String token = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token);
@@ -49,7 +53,7 @@ class JWTServiceImplTest {
     @Test
     void testGenerateToken_NotNull() {
         // Act
-        String token = jwtService.generateToken(testUser);
+        String token = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token);
@@ -58,7 +62,7 @@ class JWTServiceImplTest {
     @Test
     void testGenerateToken_DifferentTokensForSameUser() {
         // Act - Generate two tokens for the same user
-        String token1 = jwtService.generateToken(testUser);
+        String token1 = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
         
         // Wait a moment to ensure different timestamps
         try {
@@ -67,7 +71,7 @@ class JWTServiceImplTest {
             Thread.currentThread().interrupt();
         }
         
-        String token2 = jwtService.generateToken(testUser);
+        String token2 = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
 
         // Assert - Tokens should be different even for the same user
         // because they have different timestamps
@@ -86,8 +90,8 @@ class JWTServiceImplTest {
         user2.setEnabled(true);
 
         // Act
-        String token1 = jwtService.generateToken(testUser);
-        String token2 = jwtService.generateToken(user2);
+        String token1 = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
+        String token2 = jwtService.generateToken(user2, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token1);
@@ -98,7 +102,7 @@ class JWTServiceImplTest {
     @Test
     void testGenerateToken_ValidJWTFormat() {
         // Act
-        String token = jwtService.generateToken(testUser);
+        String token = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token);
@@ -127,8 +131,8 @@ class JWTServiceImplTest {
         user2.setUsername("user2");
 
         // Act
-        String token1 = jwtService.generateToken(user1);
-        String token2 = jwtService.generateToken(user2);
+        String token1 = jwtService.generateToken(user1, UUID.randomUUID().toString(), 0);
+        String token2 = jwtService.generateToken(user2, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token1);
@@ -139,14 +143,14 @@ class JWTServiceImplTest {
     @Test
     void testGenerateToken_ConsistentFormat() {
         // Act - Generate multiple tokens
-        String token1 = jwtService.generateToken(testUser);
+        String token1 = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
         
         User anotherUser = new User();
         anotherUser.setId(2L);
         anotherUser.setEmail("another@test.com");
         anotherUser.setUsername("another");
         
-        String token2 = jwtService.generateToken(anotherUser);
+        String token2 = jwtService.generateToken(anotherUser, UUID.randomUUID().toString(), 0);
 
         // Assert - All tokens should have the same format
         assertEquals(3, token1.split("\\.").length);
@@ -156,7 +160,7 @@ class JWTServiceImplTest {
     @Test
     void testGenerateToken_TokenIsNotEmpty() {
         // Act
-        String token = jwtService.generateToken(testUser);
+        String token = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token);
@@ -168,7 +172,7 @@ class JWTServiceImplTest {
     void testGenerateToken_MultipleCallsSucceed() {
         // Act & Assert - Should be able to generate multiple tokens without errors
         for (int i = 0; i < 5; i++) {
-            String token = jwtService.generateToken(testUser);
+            String token = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
             assertNotNull(token);
             assertFalse(token.isEmpty());
         }
@@ -184,7 +188,7 @@ class JWTServiceImplTest {
         disabledUser.setEnabled(false);
 
         // Act - Should still generate token (authorization is checked elsewhere)
-        String token = jwtService.generateToken(disabledUser);
+        String token = jwtService.generateToken(disabledUser, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token);
@@ -200,7 +204,7 @@ class JWTServiceImplTest {
         userWithLongEmail.setUsername("longuser");
 
         // Act
-        String token = jwtService.generateToken(userWithLongEmail);
+        String token = jwtService.generateToken(userWithLongEmail, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token);
@@ -217,10 +221,43 @@ class JWTServiceImplTest {
         userWithSpecialChars.setUsername("specialuser");
 
         // Act
-        String token = jwtService.generateToken(userWithSpecialChars);
+        String token = jwtService.generateToken(userWithSpecialChars, UUID.randomUUID().toString(), 0);
 
         // Assert
         assertNotNull(token);
         assertFalse(token.isEmpty());
     }
+
+    @Test
+    void testGenerateToken_IncludesGenerationClaim() {
+        // Act
+        String token = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 3);
+
+        // Assert
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+        assertTrue(payload.contains("\"gen\":3"));
+    }
+
+    @Test
+    void testGenerateToken_IncludesUserIdClaim() {
+        // Act
+        String token = jwtService.generateToken(testUser, UUID.randomUUID().toString(), 0);
+
+        // Assert
+        String payload = new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+        assertTrue(payload.contains("\"uid\":1"));
+    }
+
+    @Test
+    void testGenerateRefreshToken_IsOpaqueAndUnique() {
+        // Act
+        String first = jwtService.generateRefreshToken();
+        String second = jwtService.generateRefreshToken();
+
+        // Assert
+        assertNotNull(first);
+        assertEquals(43, first.length()); // 32 random bytes, base64url without padding
+        assertFalse(first.contains("."));
+        assertNotEquals(first, second);
+    }
 }
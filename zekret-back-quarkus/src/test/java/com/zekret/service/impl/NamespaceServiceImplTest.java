@@ -1,9 +1,14 @@
 package com.zekret.service.impl;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -24,6 +29,11 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zekret.dto.CredentialSummaryDTO;
+import com.zekret.dto.CredentialTypeResponseDTO;
+import com.zekret.dto.NamespaceCredentialRowDTO;
 import com.zekret.dto.NamespaceRequestDTO;
 import com.zekret.dto.NamespaceResponseDTO;
 import com.zekret.exception.ResourceNotFoundException;
@@ -45,6 +55,9 @@ class NamespaceServiceImplTest {
     @InjectMock
     UserRepository userRepository;
 
+    @Inject
+    ObjectMapper objectMapper;
+
     @Inject
     NamespaceServiceImpl namespaceService;
 
@@ -72,81 +85,76 @@ class NamespaceServiceImplTest {
     }
 
     @Test
-    void testGetNamespacesByUserEmail_Success() {
+    void testWriteNamespacesByUserId_MatchesResponseDTO() throws IOException {
         // Arrange
-        Namespace ns2 = new Namespace();
-        ns2.setId(2L);
-        ns2.setName("Development");
-        ns2.setZrn("zrn:zekret:namespace:20250715:dev-456");
-        ns2.setDescription("Dev environment");
-        ns2.setUser(testUser);
-        ns2.prePersist();
-        ns2.setCredentials(new ArrayList<>());
-
-        List<Namespace> namespaces = Arrays.asList(testNamespace, ns2);
-
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
-        when(namespaceRepository.findByUserId(anyLong()))
-            .thenReturn(namespaces);
+        LocalDateTime created = LocalDateTime.of(2025, 7, 15, 10, 30);
+        CredentialTypeResponseDTO type = new CredentialTypeResponseDTO("ssh_credential", "SSH Credential");
+
+        when(namespaceRepository.streamWithCredentialSummariesByUserId(anyLong()))
+            .thenReturn(Stream.of(
+                new NamespaceCredentialRowDTO(1L, "Production", testNamespace.getZrn(), "Production environment", created, created,
+                    1L, "zrn:zekret:credential:20250715:cred-1", "SSH prod", created, created, "ssh_credential", "SSH Credential"),
+                new NamespaceCredentialRowDTO(1L, "Production", testNamespace.getZrn(), "Production environment", created, created,
+                    2L, "zrn:zekret:credential:20250715:cred-2", "DB prod", created, created, "ssh_credential", "SSH Credential"),
+                new NamespaceCredentialRowDTO(2L, "Development", "zrn:zekret:namespace:20250715:dev-456", "Dev environment", created, created,
+                    null, null, null, null, null, null, null)
+            ));
+
+        List<NamespaceResponseDTO> expected = Arrays.asList(
+            new NamespaceResponseDTO("Production", testNamespace.getZrn(), "Production environment", created, created, Arrays.asList(
+                new CredentialSummaryDTO(1L, "zrn:zekret:credential:20250715:cred-1", "SSH prod", created, created, type, testNamespace.getZrn()),
+                new CredentialSummaryDTO(2L, "zrn:zekret:credential:20250715:cred-2", "DB prod", created, created, type, testNamespace.getZrn())
+            )),
+            new NamespaceResponseDTO("Development", "zrn:zekret:namespace:20250715:dev-456", "Dev environment", created, created, List.of())
+        );
 
         // Act
-        List<NamespaceResponseDTO> result = namespaceService.getNamespacesByUserEmail("test@example.com");
+        String result = writeNamespaces(1L);
 
-        // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertEquals("Production", result.get(0).name());
-        assertEquals("Development", result.get(1).name());
+        // Assert - the streamed JSON is the same the list endpoint returned before streaming
+        assertEquals(objectMapper.writeValueAsString(expected), result);
 
-        verify(userRepository, times(1)).findByEmailOrUsername("test@example.com", "test@example.com");
-        verify(namespaceRepository, times(1)).findByUserId(1L);
+        verify(userRepository, never()).findByEmailOrUsername(anyString(), anyString());
+        verify(namespaceRepository, times(1)).streamWithCredentialSummariesByUserId(1L);
     }
 
     @Test
-    void testGetNamespacesByUserEmail_UserNotFound_ThrowsException() {
+    void testWriteNamespacesByUserId_EmptyList() throws IOException {
         // Arrange
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.empty());
+        when(namespaceRepository.streamWithCredentialSummariesByUserId(anyLong()))
+            .thenReturn(Stream.empty());
 
-        // Act & Assert
-        ResourceNotFoundException exception = assertThrows(
-            ResourceNotFoundException.class,
-            () -> namespaceService.getNamespacesByUserEmail("nonexistent@example.com")
-        );
+        // Act
+        String result = writeNamespaces(1L);
 
-        assertTrue(exception.getMessage().contains("nonexistent@example.com"));
-        verify(namespaceRepository, never()).findByUserId(anyLong());
+        // Assert
+        assertEquals("[]", result);
     }
 
     @Test
-    void testGetNamespacesByUserEmail_EmptyList() {
+    void testWriteNamespacesByUserId_ClosesCursor() throws IOException {
         // Arrange
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
-        when(namespaceRepository.findByUserId(anyLong()))
-            .thenReturn(new ArrayList<>());
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(namespaceRepository.streamWithCredentialSummariesByUserId(anyLong()))
+            .thenReturn(Stream.<NamespaceCredentialRowDTO>empty().onClose(() -> closed.set(true)));
 
         // Act
-        List<NamespaceResponseDTO> result = namespaceService.getNamespacesByUserEmail("test@example.com");
+        writeNamespaces(1L);
 
         // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertTrue(closed.get());
     }
 
     @Test
-    void testGetNamespaceByZrnAndUserEmail_Success() {
+    void testGetNamespaceByZrnAndUserId_Success() {
         // Arrange
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
         when(namespaceRepository.findByZrnAndUserId(anyString(), anyLong()))
             .thenReturn(Optional.of(testNamespace));
 
         // Act
-        NamespaceResponseDTO result = namespaceService.getNamespaceByZrnAndUserEmail(
+        NamespaceResponseDTO result = namespaceService.getNamespaceByZrnAndUserId(
             testNamespace.getZrn(), 
-            "test@example.com"
+            1L
         );
 
         // Assert
@@ -155,31 +163,13 @@ class NamespaceServiceImplTest {
         assertEquals(testNamespace.getZrn(), result.zrn());
         assertEquals("Production environment", result.description());
 
-        verify(userRepository, times(1)).findByEmailOrUsername("test@example.com", "test@example.com");
+        verify(userRepository, never()).findByEmailOrUsername(anyString(), anyString());
         verify(namespaceRepository, times(1)).findByZrnAndUserId(testNamespace.getZrn(), 1L);
     }
 
     @Test
-    void testGetNamespaceByZrnAndUserEmail_UserNotFound_ThrowsException() {
-        // Arrange
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.empty());
-
-        // Act & Assert
-        ResourceNotFoundException exception = assertThrows(
-            ResourceNotFoundException.class,
-            () -> namespaceService.getNamespaceByZrnAndUserEmail("some-zrn", "nonexistent@example.com")
-        );
-
-        assertTrue(exception.getMessage().contains("nonexistent@example.com"));
-        verify(namespaceRepository, never()).findByZrnAndUserId(anyString(), anyLong());
-    }
-
-    @Test
-    void testGetNamespaceByZrnAndUserEmail_NamespaceNotFound_ThrowsException() {
+    void testGetNamespaceByZrnAndUserId_NamespaceNotFound_ThrowsException() {
         // Arrange
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
         when(namespaceRepository.findByZrnAndUserId(anyString(), anyLong()))
             .thenReturn(Optional.empty());
 
@@ -188,7 +178,7 @@ class NamespaceServiceImplTest {
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(
             ResourceNotFoundException.class,
-            () -> namespaceService.getNamespaceByZrnAndUserEmail(nonExistentZrn, "test@example.com")
+            () -> namespaceService.getNamespaceByZrnAndUserId(nonExistentZrn, 1L)
         );
 
         assertTrue(exception.getMessage().contains(nonExistentZrn));
@@ -203,8 +193,8 @@ class NamespaceServiceImplTest {
             "Staging environment"
         );
 
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
+        when(userRepository.getReference(anyLong()))
+            .thenReturn(testUser);
         
         // Capture and initialize credentials list
         ArgumentCaptor<Namespace> nsCaptor = ArgumentCaptor.forClass(Namespace.class);
@@ -217,7 +207,7 @@ class NamespaceServiceImplTest {
         }).when(namespaceRepository).persist(nsCaptor.capture());
 
         // Act
-        NamespaceResponseDTO result = namespaceService.registerNamespace("test@example.com", requestDTO);
+        NamespaceResponseDTO result = namespaceService.registerNamespace(1L, requestDTO);
 
         // Assert
         assertNotNull(result);
@@ -226,35 +216,18 @@ class NamespaceServiceImplTest {
         assertNotNull(result.zrn());
         assertTrue(result.zrn().startsWith("zrn:zekret:namespace:"));
 
-        verify(userRepository, times(1)).findByEmailOrUsername("test@example.com", "test@example.com");
+        verify(userRepository, never()).findByEmailOrUsername(anyString(), anyString());
+        verify(userRepository, times(1)).getReference(1L);
         verify(namespaceRepository, times(1)).persist(any(Namespace.class));
     }
 
-    @Test
-    void testRegisterNamespace_UserNotFound_ThrowsException() {
-        // Arrange
-        NamespaceRequestDTO requestDTO = new NamespaceRequestDTO("Test", "Test description");
-
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.empty());
-
-        // Act & Assert
-        ResourceNotFoundException exception = assertThrows(
-            ResourceNotFoundException.class,
-            () -> namespaceService.registerNamespace("nonexistent@example.com", requestDTO)
-        );
-
-        assertTrue(exception.getMessage().contains("nonexistent@example.com"));
-        verify(namespaceRepository, never()).persist(any(Namespace.class));
-    }
-
     @Test
     void testRegisterNamespace_AssignsUserCorrectly() {
         // Arrange
         NamespaceRequestDTO requestDTO = new NamespaceRequestDTO("Test NS", "Test description");
 
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
+        when(userRepository.getReference(anyLong()))
+            .thenReturn(testUser);
 
         ArgumentCaptor<Namespace> namespaceCaptor = ArgumentCaptor.forClass(Namespace.class);
         doAnswer(invocation -> {
@@ -266,7 +239,7 @@ class NamespaceServiceImplTest {
         }).when(namespaceRepository).persist(namespaceCaptor.capture());
 
         // Act
-        namespaceService.registerNamespace("test@example.com", requestDTO);
+        namespaceService.registerNamespace(1L, requestDTO);
 
         // Assert
         Namespace capturedNamespace = namespaceCaptor.getValue();
@@ -283,15 +256,13 @@ class NamespaceServiceImplTest {
             "Updated production environment"
         );
 
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
         when(namespaceRepository.findByZrnAndUserId(anyString(), anyLong()))
             .thenReturn(Optional.of(testNamespace));
         doNothing().when(namespaceRepository).persist(any(Namespace.class));
 
         // Act
         NamespaceResponseDTO result = namespaceService.updateNamespace(
-            "test@example.com", 
+            1L, 
             testNamespace.getZrn(), 
             updateDTO
         );
@@ -306,39 +277,19 @@ class NamespaceServiceImplTest {
         verify(namespaceRepository, times(1)).persist(any(Namespace.class));
     }
 
-    @Test
-    void testUpdateNamespace_UserNotFound_ThrowsException() {
-        // Arrange
-        NamespaceRequestDTO updateDTO = new NamespaceRequestDTO("Updated", "Updated description");
-
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.empty());
-
-        // Act & Assert
-        ResourceNotFoundException exception = assertThrows(
-            ResourceNotFoundException.class,
-            () -> namespaceService.updateNamespace("nonexistent@example.com", "some-zrn", updateDTO)
-        );
-
-        assertTrue(exception.getMessage().contains("nonexistent@example.com"));
-        verify(namespaceRepository, never()).findByZrnAndUserId(anyString(), anyLong());
-    }
-
     @Test
     void testUpdateNamespace_NamespaceNotFound_ThrowsException() {
         // Arrange
         NamespaceRequestDTO updateDTO = new NamespaceRequestDTO("Updated", "Updated description");
         String nonExistentZrn = "zrn:zekret:namespace:20250715:nonexistent";
 
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
         when(namespaceRepository.findByZrnAndUserId(anyString(), anyLong()))
             .thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(
             ResourceNotFoundException.class,
-            () -> namespaceService.updateNamespace("test@example.com", nonExistentZrn, updateDTO)
+            () -> namespaceService.updateNamespace(1L, nonExistentZrn, updateDTO)
         );
 
         assertTrue(exception.getMessage().contains(nonExistentZrn));
@@ -346,58 +297,48 @@ class NamespaceServiceImplTest {
     }
 
     @Test
-    void testDeleteNamespaceByZrnAndUserEmail_Success() {
+    void testDeleteNamespaceByZrnAndUserId_Success() {
         // Arrange
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
         when(namespaceRepository.findByZrnAndUserId(anyString(), anyLong()))
             .thenReturn(Optional.of(testNamespace));
         doNothing().when(namespaceRepository).delete(any(Namespace.class));
 
         // Act
         assertDoesNotThrow(() -> 
-            namespaceService.deleteNamespaceByZrnAndUserEmail(testNamespace.getZrn(), "test@example.com")
+            namespaceService.deleteNamespaceByZrnAndUserId(testNamespace.getZrn(), 1L)
         );
 
         // Assert
-        verify(userRepository, times(1)).findByEmailOrUsername("test@example.com", "test@example.com");
+        verify(userRepository, never()).findByEmailOrUsername(anyString(), anyString());
         verify(namespaceRepository, times(1)).findByZrnAndUserId(testNamespace.getZrn(), 1L);
         verify(namespaceRepository, times(1)).delete(testNamespace);
     }
 
     @Test
-    void testDeleteNamespaceByZrnAndUserEmail_UserNotFound_ThrowsException() {
-        // Arrange
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.empty());
-
-        // Act & Assert
-        ResourceNotFoundException exception = assertThrows(
-            ResourceNotFoundException.class,
-            () -> namespaceService.deleteNamespaceByZrnAndUserEmail("some-zrn", "nonexistent@example.com")
-        );
-
-        assertTrue(exception.getMessage().contains("nonexistent@example.com"));
-        verify(namespaceRepository, never()).delete(any(Namespace.class));
-    }
-
-    @Test
-    void testDeleteNamespaceByZrnAndUserEmail_NamespaceNotFound_ThrowsException() {
+    void testDeleteNamespaceByZrnAndUserId_NamespaceNotFound_ThrowsException() {
         // Arrange
         String nonExistentZrn = "zrn:zekret:namespace:20250715:nonexistent";
 
-        when(userRepository.findByEmailOrUsername(anyString(), anyString()))
-            .thenReturn(Optional.of(testUser));
         when(namespaceRepository.findByZrnAndUserId(anyString(), anyLong()))
             .thenReturn(Optional.empty());
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(
             ResourceNotFoundException.class,
-            () -> namespaceService.deleteNamespaceByZrnAndUserEmail(nonExistentZrn, "test@example.com")
+            () -> namespaceService.deleteNamespaceByZrnAndUserId(nonExistentZrn, 1L)
         );
 
         assertTrue(exception.getMessage().contains(nonExistentZrn));
         verify(namespaceRepository, never()).delete(any(Namespace.class));
     }
+
+    private String writeNamespaces(Long userId) throws IOException {
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(json)) {
+            generator.writeStartArray();
+            namespaceService.writeNamespacesByUserId(userId, generator);
+            generator.writeEndArray();
+        }
+        return json.toString();
+    }
 }
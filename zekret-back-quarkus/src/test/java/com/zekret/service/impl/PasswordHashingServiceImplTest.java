@@ -0,0 +1,92 @@
+package com.zekret.service.impl;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.zekret.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceImplTest {
+
+    private SimpleMeterRegistry registry;
+    private PasswordHashingServiceImpl passwordHashingService;
+    private CountDownLatch release;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // One thread and one queue slot so saturation is easy to reproduce
+        passwordHashingService = new PasswordHashingServiceImpl(registry, 1, 1, 1000);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    @SuppressWarnings("unused")
+    void tearDown() {
+        release.countDown();
+        passwordHashingService.shutdown();
+    }
+
+    @Test
+    void testHashAndVerify_RoundTrip() {
+        // Act
+        String hash = passwordHashingService.hash("password123");
+
+        // Assert
+        assertNotEquals("password123", hash);
+        assertTrue(passwordHashingService.verify("password123", hash));
+        assertFalse(passwordHashingService.verify("Password123", hash));
+        assertEquals(1, registry.get("zekret.password.hashing.duration").tag("operation", "hash").timer().count());
+        assertEquals(2, registry.get("zekret.password.hashing.duration").tag("operation", "verify").timer().count());
+    }
+
+    @Test
+    void testExecute_QueueFull_ThrowsServiceUnavailable() throws InterruptedException {
+        // Arrange - occupy the only thread and the only queue slot
+        CountDownLatch started = new CountDownLatch(1);
+        Thread running = new Thread(() -> passwordHashingService.execute(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        running.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread queued = new Thread(() -> passwordHashingService.execute(() -> release.await(5, TimeUnit.SECONDS)));
+        queued.start();
+        waitForQueuedTask();
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> passwordHashingService.hash("password123"));
+        assertEquals(1.0, registry.get("zekret.password.hashing.queue.size").gauge().value());
+        assertEquals(1.0, registry.get("zekret.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+
+    @Test
+    void testExecute_Timeout_ThrowsServiceUnavailable() {
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class,
+            () -> passwordHashingService.execute(() -> release.await(5, TimeUnit.SECONDS)));
+        assertEquals(1.0, registry.get("zekret.password.hashing.rejected").counter().count());
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("zekret.password.hashing.queue.size").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.zekret.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.zekret.service.IRateLimiterService.RouteClass;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterServiceImplTest {
+
+    private SimpleMeterRegistry registry;
+    private RateLimiterServiceImpl rateLimiterService;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // AUTH: 2 requests per burst, WRITE: 3 requests per burst, 1 refill per minute
+        rateLimiterService = new RateLimiterServiceImpl(registry, 2, 1, 3, 1);
+    }
+
+    @Test
+    void testTryAcquire_RejectsWhenBudgetIsExhausted() {
+        assertEquals(0, rateLimiterService.tryAcquire(RouteClass.AUTH, "10.0.0.1"));
+        assertEquals(0, rateLimiterService.tryAcquire(RouteClass.AUTH, "10.0.0.1"));
+        assertTrue(rateLimiterService.tryAcquire(RouteClass.AUTH, "10.0.0.1") > 0);
+        assertEquals(1.0, registry.get("zekret.ratelimit.rejected").tag("route", "auth").counter().count());
+    }
+
+    @Test
+    void testTryAcquire_KeysHaveIndependentBudgets() {
+        rateLimiterService.tryAcquire(RouteClass.AUTH, "10.0.0.1");
+        rateLimiterService.tryAcquire(RouteClass.AUTH, "10.0.0.1");
+
+        assertEquals(0, rateLimiterService.tryAcquire(RouteClass.AUTH, "10.0.0.2"));
+    }
+
+    @Test
+    void testTryAcquire_RouteClassesHaveIndependentBudgets() {
+        rateLimiterService.tryAcquire(RouteClass.AUTH, "test@example.com");
+        rateLimiterService.tryAcquire(RouteClass.AUTH, "test@example.com");
+
+        assertEquals(0, rateLimiterService.tryAcquire(RouteClass.WRITE, "test@example.com"));
+        assertEquals(0, rateLimiterService.tryAcquire(RouteClass.WRITE, "test@example.com"));
+        assertEquals(0, rateLimiterService.tryAcquire(RouteClass.WRITE, "test@example.com"));
+        assertTrue(rateLimiterService.tryAcquire(RouteClass.WRITE, "test@example.com") > 0);
+    }
+
+    @Test
+    void testEvictIdleBuckets_KeepsBucketsThatAreNotFull() {
+        rateLimiterService.tryAcquire(RouteClass.AUTH, "10.0.0.1");
+        rateLimiterService.tryAcquire(RouteClass.WRITE, "test@example.com");
+
+        assertEquals(0, rateLimiterService.evictIdleBuckets());
+        assertEquals(1.0, registry.get("zekret.ratelimit.buckets").tag("route", "auth").gauge().value());
+        assertEquals(1.0, registry.get("zekret.ratelimit.buckets").tag("route", "write").gauge().value());
+    }
+
+    @Test
+    void testEvictIdleBuckets_RemovesFullBuckets() throws InterruptedException {
+        // 60000 refills per minute: a consumed token is back after 1 ms
+        RateLimiterServiceImpl fastRefill = new RateLimiterServiceImpl(registry, 1, 60000, 1, 60000);
+        fastRefill.tryAcquire(RouteClass.AUTH, "10.0.0.1");
+
+        Thread.sleep(10);
+
+        assertEquals(1, fastRefill.evictIdleBuckets());
+        assertEquals(0, fastRefill.tryAcquire(RouteClass.AUTH, "10.0.0.1"));
+    }
+}
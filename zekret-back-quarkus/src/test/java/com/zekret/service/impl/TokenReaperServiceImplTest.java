@@ -0,0 +1,91 @@
+package com.zekret.service.impl;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zekret.repository.TokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class TokenReaperServiceImplTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @InjectMock
+    TokenRepository tokenRepository;
+
+    @Inject
+    TokenReaperServiceImpl tokenReaperService;
+
+    @Inject
+    MeterRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        reset(tokenRepository);
+    }
+
+    @Test
+    void testReap_DeletesInChunksUntilPartialBatch() {
+        // Arrange
+        when(tokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE)))
+            .thenReturn(BATCH_SIZE, BATCH_SIZE, 12);
+        when(tokenRepository.deleteLoggedOutBatch(any(LocalDateTime.class), eq(BATCH_SIZE)))
+            .thenReturn(30);
+
+        // Act
+        long reaped = tokenReaperService.reap();
+
+        // Assert
+        assertEquals(2 * BATCH_SIZE + 12 + 30, reaped);
+        verify(tokenRepository, times(3)).deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE));
+        verify(tokenRepository, times(1)).deleteLoggedOutBatch(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void testReap_NothingToDelete() {
+        // Arrange
+        when(tokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(0);
+        when(tokenRepository.deleteLoggedOutBatch(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(0);
+
+        // Act
+        long reaped = tokenReaperService.reap();
+
+        // Assert
+        assertEquals(0, reaped);
+        verify(tokenRepository, times(1)).deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE));
+        verify(tokenRepository, times(1)).deleteLoggedOutBatch(any(LocalDateTime.class), eq(BATCH_SIZE));
+    }
+
+    @Test
+    void testReap_UpdatesMetrics() {
+        // Arrange
+        double expiredBefore = registry.counter("zekret.tokens.reaped", "reason", "expired").count();
+        double loggedOutBefore = registry.counter("zekret.tokens.reaped", "reason", "logged_out").count();
+        when(tokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(7);
+        when(tokenRepository.deleteLoggedOutBatch(any(LocalDateTime.class), eq(BATCH_SIZE))).thenReturn(3);
+        when(tokenRepository.count()).thenReturn(42L);
+
+        // Act
+        tokenReaperService.reap();
+
+        // Assert
+        assertEquals(expiredBefore + 7, registry.counter("zekret.tokens.reaped", "reason", "expired").count());
+        assertEquals(loggedOutBefore + 3, registry.counter("zekret.tokens.reaped", "reason", "logged_out").count());
+        assertEquals(42.0, registry.get("zekret.tokens.table.size").gauge().value());
+    }
+}
@@ -0,0 +1,110 @@
+package com.zekret.service.impl;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zekret.repository.UserRepository;
+
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+
+@QuarkusTest
+class TokenRevocationServiceImplTest {
+
+    @InjectMock
+    UserRepository userRepository;
+
+    @Inject
+    TokenRevocationServiceImpl tokenRevocationService;
+
+    @BeforeEach
+    @SuppressWarnings("unused")
+    void setUp() {
+        reset(userRepository);
+    }
+
+    @Test
+    void testIsCurrentGeneration_LoadsGenerationOnFirstUse() {
+        // Arrange
+        when(userRepository.findTokenGenerationByEmail("first@example.com")).thenReturn(Optional.of(4));
+
+        // Act & Assert
+        assertTrue(tokenRevocationService.isCurrentGeneration("first@example.com", 4));
+        assertTrue(tokenRevocationService.isCurrentGeneration("first@example.com", 4));
+        verify(userRepository, times(1)).findTokenGenerationByEmail("first@example.com");
+    }
+
+    @Test
+    void testIsCurrentGeneration_OlderGeneration_ReturnsFalse() {
+        // Arrange
+        when(userRepository.findTokenGenerationByEmail("older@example.com")).thenReturn(Optional.of(4));
+
+        // Act & Assert
+        assertFalse(tokenRevocationService.isCurrentGeneration("older@example.com", 3));
+    }
+
+    @Test
+    void testIsCurrentGeneration_UnknownUser_ReturnsFalse() {
+        // Arrange
+        when(userRepository.findTokenGenerationByEmail(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertFalse(tokenRevocationService.isCurrentGeneration("unknown@example.com", 0));
+    }
+
+    @Test
+    void testIsCurrentGeneration_NullEmail_ReturnsFalse() {
+        assertFalse(tokenRevocationService.isCurrentGeneration(null, 0));
+        verify(userRepository, never()).findTokenGenerationByEmail(anyString());
+    }
+
+    @Test
+    void testUpdateGeneration_RevokesPreviousGeneration() {
+        // Arrange
+        tokenRevocationService.updateGeneration("update@example.com", 1);
+
+        // Act
+        tokenRevocationService.updateGeneration("update@example.com", 2);
+
+        // Assert
+        assertFalse(tokenRevocationService.isCurrentGeneration("update@example.com", 1));
+        assertTrue(tokenRevocationService.isCurrentGeneration("update@example.com", 2));
+        verify(userRepository, never()).findTokenGenerationByEmail(anyString());
+    }
+
+    @Test
+    void testUpdateGeneration_NeverMovesBackwards() {
+        // Arrange
+        tokenRevocationService.updateGeneration("backwards@example.com", 5);
+
+        // Act
+        tokenRevocationService.updateGeneration("backwards@example.com", 4);
+
+        // Assert
+        assertTrue(tokenRevocationService.isCurrentGeneration("backwards@example.com", 5));
+        assertFalse(tokenRevocationService.isCurrentGeneration("backwards@example.com", 4));
+    }
+
+    @Test
+    void testUpdateGeneration_DoesNotAffectOtherUsers() {
+        // Arrange
+        tokenRevocationService.updateGeneration("kept@example.com", 1);
+
+        // Act
+        tokenRevocationService.updateGeneration("revoked@example.com", 2);
+
+        // Assert
+        assertTrue(tokenRevocationService.isCurrentGeneration("kept@example.com", 1));
+    }
+}
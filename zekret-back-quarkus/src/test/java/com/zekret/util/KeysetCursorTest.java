@@ -0,0 +1,61 @@
+package com.zekret.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.zekret.exception.BadRequestException;
+
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecode_RoundTrip() {
+        assertEquals(12345L, KeysetCursor.decode(KeysetCursor.encode(12345L)));
+    }
+
+    @Test
+    void testEncode_IsUrlSafe() {
+        String cursor = KeysetCursor.encode(Long.MAX_VALUE);
+
+        assertFalse(cursor.contains("="));
+        assertFalse(cursor.contains("+"));
+        assertFalse(cursor.contains("/"));
+    }
+
+    @Test
+    void testDecode_NullOrBlankStartsFromBeginning() {
+        assertEquals(0L, KeysetCursor.decode(null));
+        assertEquals(0L, KeysetCursor.decode(""));
+        assertEquals(0L, KeysetCursor.decode("  "));
+    }
+
+    @Test
+    void testDecode_NotBase64_ThrowsBadRequest() {
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("%%%"));
+    }
+
+    @Test
+    void testDecode_WrongPrefix_ThrowsBadRequest() {
+        String cursor = Base64.getUrlEncoder().encodeToString("zrn:12".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(cursor));
+    }
+
+    @Test
+    void testDecode_NegativeId_ThrowsBadRequest() {
+        String cursor = Base64.getUrlEncoder().encodeToString("id:-1".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(cursor));
+    }
+
+    @Test
+    void testClampLimit() {
+        assertEquals(KeysetCursor.DEFAULT_LIMIT, KeysetCursor.clampLimit(0));
+        assertEquals(10, KeysetCursor.clampLimit(10));
+        assertEquals(KeysetCursor.MAX_LIMIT, KeysetCursor.clampLimit(10_000));
+    }
+}
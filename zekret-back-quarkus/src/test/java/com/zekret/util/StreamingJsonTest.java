@@ -0,0 +1,62 @@
+package com.zekret.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zekret.dto.APIResponseDTO;
+
+class StreamingJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void testWriteSuccess_HasSameEnvelopeAsAPIResponseDTO() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        StreamingJson.writeSuccess(objectMapper, output, "Listed.", 200, generator -> {
+            generator.writeString("a");
+            generator.writeString("b");
+        });
+
+        JsonNode streamed = objectMapper.readTree(output.toByteArray());
+        JsonNode built = objectMapper.valueToTree(APIResponseDTO.success("Listed.", List.of("a", "b"), 200));
+
+        assertTrue(streamed.get("success").asBoolean());
+        assertEquals("Listed.", streamed.get("message").asText());
+        assertEquals(built.get("data"), streamed.get("data"));
+        assertEquals(200, streamed.get("statusCode").asInt());
+        assertTrue(streamed.has("timestamp"));
+        assertFalse(streamed.has("nextCursor"));
+    }
+
+    @Test
+    void testWriteSuccess_EmptyData() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        StreamingJson.writeSuccess(objectMapper, output, "Listed.", 200, generator -> { });
+
+        JsonNode streamed = objectMapper.readTree(output.toByteArray());
+        assertTrue(streamed.get("data").isArray());
+        assertEquals(0, streamed.get("data").size());
+    }
+
+    @Test
+    void testWriteSuccess_PropagatesWriterFailure() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThrows(IOException.class, () ->
+            StreamingJson.writeSuccess(objectMapper, output, "Listed.", 200, generator -> {
+                throw new IOException("cursor closed");
+            })
+        );
+    }
+}
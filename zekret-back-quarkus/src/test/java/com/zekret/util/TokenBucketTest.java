@@ -0,0 +1,96 @@
+package com.zekret.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testTryAcquire_AllowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, SECOND, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertTrue(bucket.tryAcquire(0) > 0);
+    }
+
+    @Test
+    void testTryAcquire_ReturnsWaitUntilNextToken() {
+        TokenBucket bucket = new TokenBucket(1, SECOND, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND, bucket.tryAcquire(0));
+        assertEquals(SECOND / 4, bucket.tryAcquire(3 * SECOND / 4));
+    }
+
+    @Test
+    void testTryAcquire_RefillsOverTime() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+        bucket.tryAcquire(0);
+        bucket.tryAcquire(0);
+
+        assertTrue(bucket.tryAcquire(0) > 0);
+        assertEquals(0, bucket.tryAcquire(SECOND));
+        assertTrue(bucket.tryAcquire(SECOND) > 0);
+    }
+
+    @Test
+    void testTryAcquire_NegativeNanoTime() {
+        long start = -5 * SECOND;
+        TokenBucket bucket = new TokenBucket(1, SECOND, start);
+
+        assertEquals(0, bucket.tryAcquire(start));
+        assertTrue(bucket.tryAcquire(start) > 0);
+        assertEquals(0, bucket.tryAcquire(start + SECOND));
+    }
+
+    @Test
+    void testIsFull() {
+        TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+        assertTrue(bucket.isFull(0));
+
+        bucket.tryAcquire(0);
+        assertFalse(bucket.isFull(0));
+        assertTrue(bucket.isFull(SECOND));
+    }
+
+    @Test
+    void testTryAcquire_ConcurrentCallersNeverExceedCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, TimeUnit.HOURS.toNanos(1), 0);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < 100; j++) {
+                    if (bucket.tryAcquire(0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, allowed.get());
+    }
+}
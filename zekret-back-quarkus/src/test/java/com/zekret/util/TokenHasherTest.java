@@ -0,0 +1,42 @@
+package com.zekret.util;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.Test;
+
+class TokenHasherTest {
+
+    @Test
+    void testSha256_ReturnsFixedWidthDigest() {
+        byte[] hash = TokenHasher.sha256("header.payload.signature");
+
+        assertEquals(32, hash.length);
+    }
+
+    @Test
+    void testSha256_KnownValue() {
+        byte[] hash = TokenHasher.sha256("abc");
+
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", HexFormat.of().formatHex(hash));
+    }
+
+    @Test
+    void testSha256_IsDeterministic() {
+        assertArrayEquals(TokenHasher.sha256("token"), TokenHasher.sha256("token"));
+    }
+
+    @Test
+    void testSha256_DifferentTokensProduceDifferentDigests() {
+        assertFalse(Arrays.equals(TokenHasher.sha256("token-a"), TokenHasher.sha256("token-b")));
+    }
+
+    @Test
+    void testSha256_NullToken() {
+        assertNull(TokenHasher.sha256(null));
+    }
+}
@@ -1,16 +1,32 @@
 package com.zekret.configuration;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.zekret.model.CredentialType;
 import com.zekret.repo.ICredentialTypeRepo;
 
+/**
+ * Carga los tipos de credencial definidos en data-initializer.yml.
+ * Lee los existentes en una sola consulta, compara en memoria y aplica
+ * inserciones y actualizaciones en una única transacción.
+ */
 @Component
 public class DataInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
     
     @Autowired
     private DataInitializerProperties properties;
@@ -19,6 +35,7 @@ public class DataInitializer implements CommandLineRunner {
     private ICredentialTypeRepo credentialTypeRepo;
 
     @Override
+    @Transactional
     public void run(String... args) throws Exception {
         initializeCredentialTypes();
     }
@@ -26,22 +43,41 @@ public class DataInitializer implements CommandLineRunner {
     private void initializeCredentialTypes() {
         // Validar que las propiedades no sean null
         if (properties == null || properties.getCredentialType() == null) {
-            System.err.println("Warning: data-initializer.credentialType configuration not found or null");
+            logger.warn("data-initializer.credentialType configuration not found or null");
             return;
         }
-        
-        for (CredentialType type : properties.getCredentialType()) {
-            Optional<CredentialType> existingType = credentialTypeRepo.findByZrn(type.getZrn());
-            if(existingType.isPresent()) {
-                CredentialType existing = existingType.get();
-                existing.setName(type.getName());
-                credentialTypeRepo.save(existing);
-            } else {
+
+        long start = System.nanoTime();
+        List<CredentialType> configured = Arrays.asList(properties.getCredentialType());
+
+        // Una sola consulta para todos los tipos configurados
+        Map<String, CredentialType> existingByZrn = credentialTypeRepo
+                .findByZrnIn(configured.stream().map(CredentialType::getZrn).toList())
+                .stream()
+                .collect(Collectors.toMap(CredentialType::getZrn, Function.identity()));
+
+        List<CredentialType> toInsert = new ArrayList<>();
+        int updated = 0;
+        for (CredentialType type : configured) {
+            CredentialType existing = existingByZrn.get(type.getZrn());
+            if (existing == null) {
                 CredentialType newType = new CredentialType();
                 newType.setZrn(type.getZrn());
                 newType.setName(type.getName());
-                credentialTypeRepo.save(newType);
+                toInsert.add(newType);
+            } else if (!existing.getName().equals(type.getName())) {
+                // Entidad gestionada: el cambio se escribe al hacer flush al final de la transacción
+                existing.setName(type.getName());
+                updated++;
             }
         }
+
+        if (!toInsert.isEmpty()) {
+            credentialTypeRepo.saveAll(toInsert);
+        }
+
+        logger.info("Credential types initialized in {} ms: {} inserted, {} updated, {} unchanged",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                toInsert.size(), updated, configured.size() - toInsert.size() - updated);
     }
 }
@@ -51,7 +51,10 @@ public class SecurityConfig {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(req -> req
-                        .requestMatchers("/v1/auth/login/**", "/v1/auth/recover_password/**", "/v1/auth/reset_password/**", "/v1/users/register", "/actuator/health/**")
+                        .requestMatchers("/v1/auth/login/**", "/v1/auth/recover_password/**", "/v1/auth/reset_password/**", "/v1/users/register", "/livez", "/readyz")
+                        .permitAll()
+                        // Actuator solo se sirve en management.server.port, que no se publica a través del proxy
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus")
                         .permitAll()
                         .anyRequest().authenticated())
                 .userDetailsService(userDetailsService)
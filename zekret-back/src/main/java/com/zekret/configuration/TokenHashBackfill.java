@@ -0,0 +1,46 @@
+package com.zekret.configuration;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import com.zekret.model.Token;
+import com.zekret.repo.ITokenRepo;
+
+/**
+ * Migración de datos: calcula los digests de los tokens guardados antes de
+ * existir las columnas access_token_hash y refresh_token_hash.
+ * Procesa lotes pequeños por orden de id, cada uno en su propia transacción, hasta recorrer
+ * todas las filas pendientes. Las filas sin access_token (sesiones de Quarkus) no tienen nada que calcular.
+ */
+@Component
+public class TokenHashBackfill implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenHashBackfill.class);
+
+    @Autowired
+    private ITokenRepo tokenRepo;
+
+    @Override
+    public void run(String... args) throws Exception {
+        int total = 0;
+        long lastId = 0;
+        List<Token> pending = tokenRepo.findTop500ByAccessTokenHashIsNullAndAccessTokenIsNotNullAndIdGreaterThanOrderByIdAsc(lastId);
+        while (!pending.isEmpty()) {
+            pending.forEach(Token::computeHashes);
+            tokenRepo.saveAll(pending);
+            total += pending.size();
+            // Se avanza por id: una fila que no pudiera recibir digest no vuelve a leerse en cada lote
+            lastId = pending.get(pending.size() - 1).getId();
+            pending = tokenRepo.findTop500ByAccessTokenHashIsNullAndAccessTokenIsNotNullAndIdGreaterThanOrderByIdAsc(lastId);
+        }
+
+        if (total > 0) {
+            logger.info("Digests calculados para {} tokens existentes", total);
+        }
+    }
+}
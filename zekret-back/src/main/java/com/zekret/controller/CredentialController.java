@@ -16,15 +16,19 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.zekret.dto.APIResponseDTO;
+import com.zekret.dto.CredentialDTO;
+import com.zekret.dto.KeysetPageDTO;
 import com.zekret.model.Credential;
 import com.zekret.model.Namespace;
 import com.zekret.model.User;
 import com.zekret.service.ICredentialService;
 import com.zekret.service.INamespaceService;
 import com.zekret.util.AuthenticationUtils;
+import com.zekret.util.KeysetCursor;
 import com.zekret.util.ZrnGenerator;
 
 @RestController
@@ -47,7 +51,7 @@ public class CredentialController {
      * Note: Frontend should provide credential type as ZRN in the credentialType.zrn field
      */
     @PostMapping
-    public ResponseEntity<APIResponseDTO<Credential>> createCredential(
+    public ResponseEntity<APIResponseDTO<CredentialDTO>> createCredential(
             @RequestHeader("Authorization") String authorizationHeader,
             @RequestBody Credential request) {
         try {
@@ -57,7 +61,7 @@ public class CredentialController {
             // The namespace ZRN should be provided in the request via the namespace object
             if (request.getNamespace() == null || request.getNamespace().getZrn() == null) {
                 logger.warn("Namespace ZRN is required for credential creation");
-                APIResponseDTO<Credential> response = APIResponseDTO.error(
+                APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                     "ZRN del namespace es requerido", 
                     HttpStatus.BAD_REQUEST.value()
                 );
@@ -67,7 +71,7 @@ public class CredentialController {
             // The credential type ZRN should be provided in the request via the credentialType object
             if (request.getCredentialType() == null || request.getCredentialType().getZrn() == null) {
                 logger.warn("Credential type ZRN is required for credential creation");
-                APIResponseDTO<Credential> response = APIResponseDTO.error(
+                APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                     "ZRN del tipo de credencial es requerido", 
                     HttpStatus.BAD_REQUEST.value()
                 );
@@ -82,7 +86,7 @@ public class CredentialController {
             
             if (!namespaceOpt.isPresent()) {
                 logger.warn("Namespace not found or access denied: {}", request.getNamespace().getZrn());
-                APIResponseDTO<Credential> response = APIResponseDTO.error(
+                APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                     "Namespace no encontrado o con acceso denegado", 
                     HttpStatus.BAD_REQUEST.value()
                 );
@@ -96,9 +100,9 @@ public class CredentialController {
             
             Credential savedCredential = credentialService.register(request);
             
-            APIResponseDTO<Credential> response = APIResponseDTO.success(
+            APIResponseDTO<CredentialDTO> response = APIResponseDTO.success(
                 "Credencial creada exitosamente", 
-                savedCredential, 
+                CredentialDTO.from(savedCredential), 
                 HttpStatus.CREATED.value()
             );
             
@@ -107,7 +111,7 @@ public class CredentialController {
             
         } catch (Exception e) {
             logger.error("Error creating credential: {}", e.getMessage());
-            APIResponseDTO<Credential> response = APIResponseDTO.error(
+            APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                 "Error al crear la credencial",
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -121,7 +125,7 @@ public class CredentialController {
      * Note: Credential type can be updated via credentialType.zrn field
      */
     @PutMapping("/{zrn}")
-    public ResponseEntity<APIResponseDTO<Credential>> updateCredential(
+    public ResponseEntity<APIResponseDTO<CredentialDTO>> updateCredential(
             @RequestHeader("Authorization") String authorizationHeader,
             @PathVariable String zrn, 
             @RequestBody Credential request) {
@@ -134,7 +138,7 @@ public class CredentialController {
             
             if (!existingCredentialOpt.isPresent()) {
                 logger.warn("Credential not found or access denied: {}", zrn);
-                APIResponseDTO<Credential> response = APIResponseDTO.error(
+                APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                     "Credencial no encontrada o con acceso denegado", 
                     HttpStatus.NOT_FOUND.value()
                 );
@@ -161,9 +165,9 @@ public class CredentialController {
             
             Credential updatedCredential = credentialService.modify(existingCredential);
             
-            APIResponseDTO<Credential> response = APIResponseDTO.success(
+            APIResponseDTO<CredentialDTO> response = APIResponseDTO.success(
                 "Credencial actualizada exitosamente", 
-                updatedCredential, 
+                CredentialDTO.from(updatedCredential), 
                 HttpStatus.OK.value()
             );
             
@@ -172,7 +176,7 @@ public class CredentialController {
             
         } catch (Exception e) {
             logger.error("Error updating credential: {}", e.getMessage());
-            APIResponseDTO<Credential> response = APIResponseDTO.error(
+            APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                 "Error al actualizar la credencial", 
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -184,18 +188,18 @@ public class CredentialController {
      * Get credential by ZRN
      */
     @GetMapping("/{zrn}")
-    public ResponseEntity<APIResponseDTO<Credential>> getCredentialByZrn(
+    public ResponseEntity<APIResponseDTO<CredentialDTO>> getCredentialByZrn(
             @RequestHeader("Authorization") String authorizationHeader,
             @PathVariable String zrn) {
         try {
             User authenticatedUser = authenticationUtils.getAuthenticatedUserFromToken(authorizationHeader);
             logger.info("Finding credential '{}' for user: {}", zrn, authenticatedUser.getUsername());
             
-            // Use optimized query to find credential by ZRN and user ID
-            Optional<Credential> credentialOpt = credentialService.getCredentialByZrnAndUserId(zrn, authenticatedUser.getId());
+            // Project only the response columns for the credential by ZRN and user ID
+            Optional<CredentialDTO> credentialOpt = credentialService.getCredentialDTOByZrnAndUserId(zrn, authenticatedUser.getId());
             
             if (credentialOpt.isPresent()) {
-                APIResponseDTO<Credential> response = APIResponseDTO.success(
+                APIResponseDTO<CredentialDTO> response = APIResponseDTO.success(
                     "Credencial encontrada exitosamente", 
                     credentialOpt.get(), 
                     HttpStatus.OK.value()
@@ -203,7 +207,7 @@ public class CredentialController {
                 return ResponseEntity.ok(response);
             } else {
                 logger.warn("Credential not found: {}", zrn);
-                APIResponseDTO<Credential> response = APIResponseDTO.error(
+                APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                     "Credencial no encontrada o con acceso denegado", 
                     HttpStatus.NOT_FOUND.value()
                 );
@@ -212,7 +216,7 @@ public class CredentialController {
             
         } catch (Exception e) {
             logger.error("Error finding credential: {}", e.getMessage());
-            APIResponseDTO<Credential> response = APIResponseDTO.error(
+            APIResponseDTO<CredentialDTO> response = APIResponseDTO.error(
                 "Error al encontrar la credencial", 
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -221,30 +225,46 @@ public class CredentialController {
     }
     
     /**
-     * Get all credentials for the authenticated user
+     * Get a page of credentials for the authenticated user
+     * Pass the returned nextCursor as "after" to fetch the following page
      */
     @GetMapping
-    public ResponseEntity<APIResponseDTO<List<Credential>>> getAllCredentials(
-            @RequestHeader("Authorization") String authorizationHeader) {
+    public ResponseEntity<APIResponseDTO<List<CredentialDTO>>> getAllCredentials(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit) {
+        long afterId;
+        try {
+            afterId = KeysetCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid pagination cursor: {}", after);
+            APIResponseDTO<List<CredentialDTO>> response = APIResponseDTO.error(
+                "Cursor de paginación inválido",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
         try {
             User authenticatedUser = authenticationUtils.getAuthenticatedUserFromToken(authorizationHeader);
-            logger.info("Listing all credentials for user: {}", authenticatedUser.getUsername());
+            logger.info("Listing credentials for user: {}", authenticatedUser.getUsername());
             
-            // Use optimized query to get credentials by user ID
-            List<Credential> userCredentials = credentialService.getCredentialsByUserId(authenticatedUser.getId());
+            // Keyset query on (id_user, id) instead of loading every credential
+            KeysetPageDTO<CredentialDTO> page = credentialService.getCredentialsByUserId(authenticatedUser.getId(), afterId, limit);
             
-            APIResponseDTO<List<Credential>> response = APIResponseDTO.success(
+            APIResponseDTO<List<CredentialDTO>> response = APIResponseDTO.success(
                 "Credenciales encontradas exitosamente", 
-                userCredentials, 
+                page.items(), 
+                page.nextCursor(),
                 HttpStatus.OK.value()
             );
             
-            logger.info("Found {} credentials for user", userCredentials.size());
+            logger.info("Found {} credentials for user", page.items().size());
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             logger.error("Error listing credentials: {}", e.getMessage());
-            APIResponseDTO<List<Credential>> response = APIResponseDTO.error(
+            APIResponseDTO<List<CredentialDTO>> response = APIResponseDTO.error(
                 "Error al listar las credenciales",
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -298,12 +318,27 @@ public class CredentialController {
     }
     
     /**
-     * Get all credentials for a specific namespace
+     * Get a page of credentials for a specific namespace
+     * Pass the returned nextCursor as "after" to fetch the following page
      */
     @GetMapping("/namespace/{namespaceZrn}")
-    public ResponseEntity<APIResponseDTO<List<Credential>>> getCredentialsByNamespace(
+    public ResponseEntity<APIResponseDTO<List<CredentialDTO>>> getCredentialsByNamespace(
             @RequestHeader("Authorization") String authorizationHeader,
-            @PathVariable String namespaceZrn) {
+            @PathVariable String namespaceZrn,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit) {
+        long afterId;
+        try {
+            afterId = KeysetCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid pagination cursor: {}", after);
+            APIResponseDTO<List<CredentialDTO>> response = APIResponseDTO.error(
+                "Cursor de paginación inválido",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
         try {
             User authenticatedUser = authenticationUtils.getAuthenticatedUserFromToken(authorizationHeader);
             logger.info("Listing credentials for namespace '{}' and user: {}", namespaceZrn, authenticatedUser.getUsername());
@@ -311,31 +346,34 @@ public class CredentialController {
             // Validate namespace exists and belongs to user
             if (!namespaceService.existsNamespaceByZrnAndUserId(namespaceZrn, authenticatedUser.getId())) {
                 logger.warn("Namespace not found or access denied: {}", namespaceZrn);
-                APIResponseDTO<List<Credential>> response = APIResponseDTO.error(
+                APIResponseDTO<List<CredentialDTO>> response = APIResponseDTO.error(
                     "Namespace no encontrado o con acceso denegado", 
                     HttpStatus.NOT_FOUND.value()
                 );
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
             }
             
-            // Use optimized query to get credentials by namespace and user ID
-            List<Credential> namespaceCredentials = credentialService.getCredentialsByNamespaceAndUserId(
+            // Keyset query on the namespace and (id_user, id) instead of loading every credential
+            KeysetPageDTO<CredentialDTO> page = credentialService.getCredentialsByNamespaceAndUserId(
                 namespaceZrn, 
-                authenticatedUser.getId()
+                authenticatedUser.getId(),
+                afterId,
+                limit
             );
             
-            APIResponseDTO<List<Credential>> response = APIResponseDTO.success(
+            APIResponseDTO<List<CredentialDTO>> response = APIResponseDTO.success(
                 "Credenciales encontradas exitosamente para el namespace", 
-                namespaceCredentials, 
+                page.items(), 
+                page.nextCursor(),
                 HttpStatus.OK.value()
             );
             
-            logger.info("Found {} credentials for namespace '{}' and user", namespaceCredentials.size(), namespaceZrn);
+            logger.info("Found {} credentials for namespace '{}' and user", page.items().size(), namespaceZrn);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             logger.error("Error listing credentials for namespace: {}", e.getMessage());
-            APIResponseDTO<List<Credential>> response = APIResponseDTO.error(
+            APIResponseDTO<List<CredentialDTO>> response = APIResponseDTO.error(
                 "Error al listar las credenciales del namespace",
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -16,13 +16,18 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.zekret.dto.APIResponseDTO;
+import com.zekret.dto.KeysetPageDTO;
+import com.zekret.dto.NamespaceDTO;
 import com.zekret.model.Namespace;
 import com.zekret.model.User;
+import com.zekret.service.ICredentialService;
 import com.zekret.service.INamespaceService;
 import com.zekret.util.AuthenticationUtils;
+import com.zekret.util.KeysetCursor;
 import com.zekret.util.ZrnGenerator;
 
 @RestController
@@ -33,6 +38,9 @@ public class NamespaceController {
     
     @Autowired
     private INamespaceService namespaceService;
+
+    @Autowired
+    private ICredentialService credentialService;
     
     @Autowired
     private AuthenticationUtils authenticationUtils;
@@ -41,7 +49,7 @@ public class NamespaceController {
      * Create a new namespace
      */
     @PostMapping
-    public ResponseEntity<APIResponseDTO<Namespace>> createNamespace(
+    public ResponseEntity<APIResponseDTO<NamespaceDTO>> createNamespace(
             @RequestHeader("Authorization") String authorizationHeader,
             @RequestBody Namespace request) {
         try {
@@ -54,9 +62,9 @@ public class NamespaceController {
             
             Namespace savedNamespace = namespaceService.register(request);
             
-            APIResponseDTO<Namespace> response = APIResponseDTO.success(
+            APIResponseDTO<NamespaceDTO> response = APIResponseDTO.success(
                 "Namespace creado exitosamente", 
-                savedNamespace, 
+                NamespaceDTO.from(savedNamespace, List.of()), 
                 HttpStatus.CREATED.value()
             );
             
@@ -65,7 +73,7 @@ public class NamespaceController {
             
         } catch (Exception e) {
             logger.error("Error creating namespace: {}", e.getMessage());
-            APIResponseDTO<Namespace> response = APIResponseDTO.error(
+            APIResponseDTO<NamespaceDTO> response = APIResponseDTO.error(
                 "Error al crear el namespace", 
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -77,7 +85,7 @@ public class NamespaceController {
      * Update an existing namespace
      */
     @PutMapping("/{zrn}")
-    public ResponseEntity<APIResponseDTO<Namespace>> updateNamespace(
+    public ResponseEntity<APIResponseDTO<NamespaceDTO>> updateNamespace(
             @RequestHeader("Authorization") String authorizationHeader,
             @PathVariable String zrn, 
             @RequestBody Namespace request) {
@@ -90,7 +98,7 @@ public class NamespaceController {
             
             if (!existingNamespaceOpt.isPresent()) {
                 logger.warn("Namespace not found or access denied: {}", zrn);
-                APIResponseDTO<Namespace> response = APIResponseDTO.error(
+                APIResponseDTO<NamespaceDTO> response = APIResponseDTO.error(
                     "Namespace no encontrado o con acceso denegado", 
                     HttpStatus.NOT_FOUND.value()
                 );
@@ -105,9 +113,13 @@ public class NamespaceController {
             
             Namespace updatedNamespace = namespaceService.modify(existingNamespace);
             
-            APIResponseDTO<Namespace> response = APIResponseDTO.success(
+            // Credentials are lazy and the session is already closed, so read them as projections
+            APIResponseDTO<NamespaceDTO> response = APIResponseDTO.success(
                 "Namespace actualizado exitosamente", 
-                updatedNamespace, 
+                NamespaceDTO.from(
+                    updatedNamespace,
+                    credentialService.getCredentialsByNamespaceAndUserId(zrn, authenticatedUser.getId())
+                ), 
                 HttpStatus.OK.value()
             );
             
@@ -116,7 +128,7 @@ public class NamespaceController {
             
         } catch (Exception e) {
             logger.error("Error updating namespace: {}", e.getMessage());
-            APIResponseDTO<Namespace> response = APIResponseDTO.error(
+            APIResponseDTO<NamespaceDTO> response = APIResponseDTO.error(
                 "Error al actualizar el namespace", 
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -128,18 +140,18 @@ public class NamespaceController {
      * Get namespace by ZRN
      */
     @GetMapping("/{zrn}")
-    public ResponseEntity<APIResponseDTO<Namespace>> getNamespaceByZrn(
+    public ResponseEntity<APIResponseDTO<NamespaceDTO>> getNamespaceByZrn(
             @RequestHeader("Authorization") String authorizationHeader,
             @PathVariable String zrn) {
         try {
             User authenticatedUser = authenticationUtils.getAuthenticatedUserFromToken(authorizationHeader);
             logger.info("Finding namespace '{}' for user: {}", zrn, authenticatedUser.getUsername());
             
-            // Use optimized query to find namespace by ZRN and user ID
-            Optional<Namespace> namespaceOpt = namespaceService.getNamespaceByZrnAndUserId(zrn, authenticatedUser.getId());
+            // Project only the response columns for the namespace and its credentials
+            Optional<NamespaceDTO> namespaceOpt = namespaceService.getNamespaceDTOByZrnAndUserId(zrn, authenticatedUser.getId());
             
             if (namespaceOpt.isPresent()) {
-                APIResponseDTO<Namespace> response = APIResponseDTO.success(
+                APIResponseDTO<NamespaceDTO> response = APIResponseDTO.success(
                     "Namespace encontrado exitosamente", 
                     namespaceOpt.get(), 
                     HttpStatus.OK.value()
@@ -147,7 +159,7 @@ public class NamespaceController {
                 return ResponseEntity.ok(response);
             } else {
                 logger.warn("Namespace not found: {}", zrn);
-                APIResponseDTO<Namespace> response = APIResponseDTO.error(
+                APIResponseDTO<NamespaceDTO> response = APIResponseDTO.error(
                     "Namespace no encontrado", 
                     HttpStatus.NOT_FOUND.value()
                 );
@@ -156,7 +168,7 @@ public class NamespaceController {
             
         } catch (Exception e) {
             logger.error("Error finding namespace: {}", e.getMessage());
-            APIResponseDTO<Namespace> response = APIResponseDTO.error(
+            APIResponseDTO<NamespaceDTO> response = APIResponseDTO.error(
                 "Error al buscar el namespace", 
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
@@ -165,30 +177,46 @@ public class NamespaceController {
     }
     
     /**
-     * Get all namespaces for the authenticated user
+     * Get a page of namespaces for the authenticated user
+     * Pass the returned nextCursor as "after" to fetch the following page
      */
     @GetMapping
-    public ResponseEntity<APIResponseDTO<List<Namespace>>> getAllNamespaces(
-            @RequestHeader("Authorization") String authorizationHeader) {
+    public ResponseEntity<APIResponseDTO<List<NamespaceDTO>>> getAllNamespaces(
+            @RequestHeader("Authorization") String authorizationHeader,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit) {
+        long afterId;
+        try {
+            afterId = KeysetCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid pagination cursor: {}", after);
+            APIResponseDTO<List<NamespaceDTO>> response = APIResponseDTO.error(
+                "Cursor de paginación inválido",
+                HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+
         try {
             User authenticatedUser = authenticationUtils.getAuthenticatedUserFromToken(authorizationHeader);
-            logger.info("Listing all namespaces for user: {}", authenticatedUser.getUsername());
+            logger.info("Listing namespaces for user: {}", authenticatedUser.getUsername());
             
-            // Use optimized query to get namespaces by user ID
-            List<Namespace> userNamespaces = namespaceService.getNamespacesByUserId(authenticatedUser.getId());
+            // Two projection queries: a keyset page of namespaces and the credential count of each
+            KeysetPageDTO<NamespaceDTO> page = namespaceService.getNamespacesByUserId(authenticatedUser.getId(), afterId, limit);
             
-            APIResponseDTO<List<Namespace>> response = APIResponseDTO.success(
+            APIResponseDTO<List<NamespaceDTO>> response = APIResponseDTO.success(
                 "Namespaces encontrados exitosamente", 
-                userNamespaces, 
+                page.items(), 
+                page.nextCursor(),
                 HttpStatus.OK.value()
             );
             
-            logger.info("Found {} namespaces for user", userNamespaces.size());
+            logger.info("Found {} namespaces for user", page.items().size());
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             logger.error("Error listing namespaces: {}", e.getMessage());
-            APIResponseDTO<List<Namespace>> response = APIResponseDTO.error(
+            APIResponseDTO<List<NamespaceDTO>> response = APIResponseDTO.error(
                 "Error al listar los namespaces", 
                 HttpStatus.INTERNAL_SERVER_ERROR.value()
             );
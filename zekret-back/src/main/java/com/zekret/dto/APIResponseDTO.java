@@ -2,6 +2,8 @@ package com.zekret.dto;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class APIResponseDTO<T> {
     private boolean success;
     private String message;
@@ -9,6 +11,9 @@ public class APIResponseDTO<T> {
     private int statusCode;
     private LocalDateTime timestamp;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     public APIResponseDTO() {
         this.timestamp = LocalDateTime.now();
     }
@@ -25,6 +30,12 @@ public class APIResponseDTO<T> {
 		return new APIResponseDTO<>(true, message, data, statusCode);
 	}
 	
+	public static <T> APIResponseDTO<T> success(String message, T data, String nextCursor, int statusCode) {
+		APIResponseDTO<T> response = new APIResponseDTO<>(true, message, data, statusCode);
+		response.setNextCursor(nextCursor);
+		return response;
+	}
+	
 	public static <T> APIResponseDTO<T> error(String message, int statusCode) {
 		return new APIResponseDTO<>(false, message, null, statusCode);
 	}
@@ -68,4 +79,12 @@ public class APIResponseDTO<T> {
     public void setTimestamp(LocalDateTime timestamp) {
         this.timestamp = timestamp;
     }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.zekret.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.zekret.model.Credential;
+
+/**
+ * Read-only view of a credential returned by the credential and namespace endpoints.
+ * Built straight from a JPQL constructor expression so only the response columns are selected.
+ */
+public record CredentialDTO(
+        @JsonIgnore Long id,
+        String title,
+        String zrn,
+        String username,
+        String password,
+        String sshPublicKey,
+        String sshPrivateKey,
+        String secretText,
+        String fileName,
+        String fileContent,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        CredentialTypeDTO credentialType,
+        @JsonIgnore String namespaceZrn) {
+
+    /**
+     * Flat constructor used by the repository projection queries
+     */
+    public CredentialDTO(Long id, String title, String zrn, String username, String password,
+            String sshPublicKey, String sshPrivateKey, String secretText, String fileName,
+            String fileContent, String notes, LocalDateTime createdAt, LocalDateTime updatedAt,
+            String credentialTypeZrn, String credentialTypeName, String namespaceZrn) {
+        this(id, title, zrn, username, password, sshPublicKey, sshPrivateKey, secretText, fileName,
+                fileContent, notes, createdAt, updatedAt,
+                credentialTypeZrn != null ? new CredentialTypeDTO(credentialTypeZrn, credentialTypeName) : null,
+                namespaceZrn);
+    }
+
+    /**
+     * Map an entity that is already loaded (e.g. right after a save) to its response view
+     */
+    public static CredentialDTO from(Credential credential) {
+        return new CredentialDTO(
+                credential.getId(),
+                credential.getTitle(),
+                credential.getZrn(),
+                credential.getUsername(),
+                credential.getPassword(),
+                credential.getSshPublicKey(),
+                credential.getSshPrivateKey(),
+                credential.getSecretText(),
+                credential.getFileName(),
+                credential.getFileContent(),
+                credential.getNotes(),
+                credential.getCreatedAt(),
+                credential.getUpdatedAt(),
+                credential.getCredentialType() != null
+                        ? new CredentialTypeDTO(credential.getCredentialType().getZrn(), credential.getCredentialType().getName())
+                        : null,
+                credential.getNamespace() != null ? credential.getNamespace().getZrn() : null);
+    }
+}
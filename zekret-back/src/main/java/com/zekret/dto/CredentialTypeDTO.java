@@ -0,0 +1,7 @@
+package com.zekret.dto;
+
+/**
+ * Read-only view of a credential type as it is embedded in credential responses.
+ */
+public record CredentialTypeDTO(String zrn, String name) {
+}
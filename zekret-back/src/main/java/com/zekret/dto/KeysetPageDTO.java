@@ -0,0 +1,23 @@
+package com.zekret.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.zekret.util.KeysetCursor;
+
+/**
+ * One page of a keyset-paginated listing and the cursor for the next page, if any.
+ */
+public record KeysetPageDTO<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Build a page from rows fetched with limit + 1, so an extra row means there is a next page
+     */
+    public static <T> KeysetPageDTO<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPageDTO<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new KeysetPageDTO<>(items, KeysetCursor.encode(idOf.apply(items.get(limit - 1))));
+    }
+}
@@ -0,0 +1,9 @@
+package com.zekret.dto;
+
+/**
+ * Number of credentials a user has in one namespace, used to annotate the namespace list page.
+ */
+public record NamespaceCredentialCountDTO(
+        String namespaceZrn,
+        Long credentialCount) {
+}
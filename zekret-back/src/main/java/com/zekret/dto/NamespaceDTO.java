@@ -0,0 +1,53 @@
+package com.zekret.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.zekret.model.Namespace;
+
+/**
+ * Read-only view of a namespace returned by the namespace endpoints.
+ * A single namespace embeds its credentials; the paged list only carries the credential count.
+ */
+public record NamespaceDTO(
+        @JsonIgnore Long id,
+        String name,
+        String zrn,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long credentialCount,
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<CredentialDTO> credentials) {
+
+    /**
+     * Constructor used by the repository projection queries; credentials or their count are attached afterwards
+     */
+    public NamespaceDTO(Long id, String name, String zrn, String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, name, zrn, description, createdAt, updatedAt, 0L, null);
+    }
+
+    public NamespaceDTO withCredentials(List<CredentialDTO> credentials) {
+        return new NamespaceDTO(id, name, zrn, description, createdAt, updatedAt, credentials.size(), credentials);
+    }
+
+    public NamespaceDTO withCredentialCount(long credentialCount) {
+        return new NamespaceDTO(id, name, zrn, description, createdAt, updatedAt, credentialCount, null);
+    }
+
+    /**
+     * Map an entity that is already loaded (e.g. right after a save) to its response view
+     */
+    public static NamespaceDTO from(Namespace namespace, List<CredentialDTO> credentials) {
+        return new NamespaceDTO(
+                namespace.getId(),
+                namespace.getName(),
+                namespace.getZrn(),
+                namespace.getDescription(),
+                namespace.getCreatedAt(),
+                namespace.getUpdatedAt(),
+                credentials.size(),
+                credentials);
+    }
+}
@@ -1,6 +1,7 @@
 package com.zekret.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.zekret.util.TokenHasher;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,6 +9,8 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
@@ -25,6 +28,15 @@ public class Token {
     @Column(nullable = false, unique = true)
     private String refreshToken;
 
+    // Digests SHA-256 para búsquedas por índice; nullable hasta completar el backfill de filas antiguas
+    @Column(unique = true, columnDefinition = "BINARY(32)")
+    @JsonIgnore
+    private byte[] accessTokenHash;
+
+    @Column(unique = true, columnDefinition = "BINARY(32)")
+    @JsonIgnore
+    private byte[] refreshTokenHash;
+
     @Column(nullable = false)
     private boolean loggedOut;
 
@@ -56,6 +68,14 @@ public class Token {
         this.refreshToken = refreshToken;
     }
 
+    public byte[] getAccessTokenHash() {
+        return accessTokenHash;
+    }
+
+    public byte[] getRefreshTokenHash() {
+        return refreshTokenHash;
+    }
+
     public boolean isLoggedOut() {
         return loggedOut;
     }
@@ -71,4 +91,11 @@ public class Token {
     public void setUser(User user) {
         this.user = user;
     }
-}
\ No newline at end of file
+
+    @PrePersist
+    @PreUpdate
+    public void computeHashes() {
+        this.accessTokenHash = TokenHasher.sha256(accessToken);
+        this.refreshTokenHash = TokenHasher.sha256(refreshToken);
+    }
+}
@@ -1,20 +1,52 @@
 package com.zekret.repo;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.zekret.dto.CredentialDTO;
+import com.zekret.dto.NamespaceCredentialCountDTO;
 import com.zekret.model.Credential;
 
 public interface ICredentialRepo extends IGenericRepo<Credential, Long> {
+
+    /**
+     * Constructor expression shared by the read-only projections below.
+     * Selects only the response columns and joins the type and namespace in the same statement.
+     */
+    String CREDENTIAL_DTO_SELECT = "SELECT new com.zekret.dto.CredentialDTO("
+            + "c.id, c.title, c.zrn, c.username, c.password, c.sshPublicKey, c.sshPrivateKey, c.secretText, "
+            + "c.fileName, c.fileContent, c.notes, c.createdAt, c.updatedAt, ct.zrn, ct.name, n.zrn) "
+            + "FROM Credential c LEFT JOIN c.credentialType ct LEFT JOIN c.namespace n ";
     
     /**
-     * Find all credentials for a specific user
-     * Spring Data JPA automatically generates: SELECT c FROM Credential c WHERE c.user.id = :userId
+     * Find the next page of credentials for a specific user as response projections.
+     * Seeks on (id_user, id) so the cost does not grow with the page depth.
      * 
      * @param userId The user ID to filter by
-     * @return List of credentials belonging to the user
+     * @param afterId Last id of the previous page (0 for the first page)
+     * @param pageable Page size; only the limit is used
+     * @return Credentials belonging to the user with id greater than afterId, ordered by id
      */
-    List<Credential> findByUserId(Long userId);
+    @Query(CREDENTIAL_DTO_SELECT + "WHERE c.user.id = :userId AND c.id > :afterId ORDER BY c.id")
+    List<CredentialDTO> findDTOPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Count the credentials of a set of namespaces for a specific user.
+     * Only one row per namespace is read, so the namespace list page does not load the credentials themselves.
+     * 
+     * @param userId The user ID to filter by
+     * @param namespaceZrns The namespace ZRNs to include
+     * @return One count per namespace that has at least one credential
+     */
+    @Query("SELECT new com.zekret.dto.NamespaceCredentialCountDTO(n.zrn, COUNT(c)) "
+            + "FROM Credential c JOIN c.namespace n "
+            + "WHERE c.user.id = :userId AND n.zrn IN :namespaceZrns GROUP BY n.zrn")
+    List<NamespaceCredentialCountDTO> countByUserIdAndNamespaceZrnIn(@Param("userId") Long userId, @Param("namespaceZrns") Collection<String> namespaceZrns);
     
     /**
      * Find a credential by ZRN and user ID
@@ -25,16 +57,39 @@ public interface ICredentialRepo extends IGenericRepo<Credential, Long> {
      * @return Optional containing the credential if found
      */
     Optional<Credential> findByZrnAndUserId(String zrn, Long userId);
+
+    /**
+     * Find a credential by ZRN and user ID as a response projection
+     * 
+     * @param zrn The ZRN identifier
+     * @param userId The user ID to filter by
+     * @return Optional containing the credential if found
+     */
+    @Query(CREDENTIAL_DTO_SELECT + "WHERE c.zrn = :zrn AND c.user.id = :userId")
+    Optional<CredentialDTO> findDTOByZrnAndUserId(@Param("zrn") String zrn, @Param("userId") Long userId);
     
     /**
-     * Find all credentials for a specific namespace and user
-     * Spring Data JPA automatically generates: SELECT c FROM Credential c WHERE c.namespace.zrn = :namespaceZrn AND c.user.id = :userId
+     * Find all credentials for a specific namespace and user as response projections
      * 
      * @param namespaceZrn The namespace ZRN
      * @param userId The user ID to filter by
      * @return List of credentials in the namespace belonging to the user
      */
-    List<Credential> findByNamespaceZrnAndUserId(String namespaceZrn, Long userId);
+    @Query(CREDENTIAL_DTO_SELECT + "WHERE n.zrn = :namespaceZrn AND c.user.id = :userId")
+    List<CredentialDTO> findDTOByNamespaceZrnAndUserId(@Param("namespaceZrn") String namespaceZrn, @Param("userId") Long userId);
+
+    /**
+     * Find the next page of credentials for a specific namespace and user as response projections
+     * 
+     * @param namespaceZrn The namespace ZRN
+     * @param userId The user ID to filter by
+     * @param afterId Last id of the previous page (0 for the first page)
+     * @param pageable Page size; only the limit is used
+     * @return Credentials in the namespace belonging to the user with id greater than afterId, ordered by id
+     */
+    @Query(CREDENTIAL_DTO_SELECT + "WHERE n.zrn = :namespaceZrn AND c.user.id = :userId AND c.id > :afterId ORDER BY c.id")
+    List<CredentialDTO> findDTOPageByNamespaceZrnAndUserId(@Param("namespaceZrn") String namespaceZrn, @Param("userId") Long userId,
+            @Param("afterId") Long afterId, Pageable pageable);
     
     /**
      * Check if a credential with the given ZRN exists for the user
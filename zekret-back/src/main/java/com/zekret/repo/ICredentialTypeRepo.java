@@ -1,5 +1,7 @@
 package com.zekret.repo;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.zekret.model.CredentialType;
@@ -10,4 +12,9 @@ public interface ICredentialTypeRepo extends IGenericRepo<CredentialType, Long>
      * Find credential type by ZRN using Spring Data JPA naming convention
      */
     Optional<CredentialType> findByZrn(String zrn);
+
+    /**
+     * Find every credential type whose ZRN is in the given set in a single query
+     */
+    List<CredentialType> findByZrnIn(Collection<String> zrns);
 }
@@ -3,18 +3,33 @@ package com.zekret.repo;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.zekret.dto.NamespaceDTO;
 import com.zekret.model.Namespace;
 
 public interface INamespaceRepo extends IGenericRepo<Namespace, Long> {
+
+    /**
+     * Constructor expression shared by the read-only projections below.
+     * Credentials are not part of the row; callers attach them from a second query.
+     */
+    String NAMESPACE_DTO_SELECT = "SELECT new com.zekret.dto.NamespaceDTO("
+            + "n.id, n.name, n.zrn, n.description, n.createdAt, n.updatedAt) FROM Namespace n ";
     
     /**
-     * Find all namespaces for a specific user
-     * Spring Data JPA automatically generates: SELECT n FROM Namespace n WHERE n.user.id = :userId
+     * Find the next page of namespaces for a specific user as response projections.
+     * Seeks on (id_user, id) so the cost does not grow with the page depth.
      * 
      * @param userId The user ID to filter by
-     * @return List of namespaces belonging to the user
+     * @param afterId Last id of the previous page (0 for the first page)
+     * @param pageable Page size; only the limit is used
+     * @return Namespaces belonging to the user with id greater than afterId, ordered by id
      */
-    List<Namespace> findByUserId(Long userId);
+    @Query(NAMESPACE_DTO_SELECT + "WHERE n.user.id = :userId AND n.id > :afterId ORDER BY n.id")
+    List<NamespaceDTO> findDTOPageByUserId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
     
     /**
      * Find a namespace by ZRN and user ID
@@ -25,6 +40,16 @@ public interface INamespaceRepo extends IGenericRepo<Namespace, Long> {
      * @return Optional containing the namespace if found
      */
     Optional<Namespace> findByZrnAndUserId(String zrn, Long userId);
+
+    /**
+     * Find a namespace by ZRN and user ID as a response projection
+     * 
+     * @param zrn The ZRN identifier
+     * @param userId The user ID to filter by
+     * @return Optional containing the namespace if found
+     */
+    @Query(NAMESPACE_DTO_SELECT + "WHERE n.zrn = :zrn AND n.user.id = :userId")
+    Optional<NamespaceDTO> findDTOByZrnAndUserId(@Param("zrn") String zrn, @Param("userId") Long userId);
     
     /**
      * Check if a namespace with the given ZRN exists for the user
@@ -10,7 +10,9 @@ import org.springframework.data.domain.Pageable;
 
 public interface ITokenRepo extends IGenericRepo<Token, Long> {
     Page<Token> findAll(Pageable pageable);
-    Optional<Token> findByAccessToken(String accessToken);
-    Optional<Token> findByRefreshToken(String refreshToken);
+    Optional<Token> findByAccessTokenHash(byte[] accessTokenHash);
+    Optional<Token> findByRefreshTokenHash(byte[] refreshTokenHash);
     List<Token> findByUserIdAndLoggedOutFalse(Long idUsuario);
+    // Backfill por keyset: cada lote empieza tras el último id procesado, así que siempre avanza
+    List<Token> findTop500ByAccessTokenHashIsNullAndAccessTokenIsNotNullAndIdGreaterThanOrderByIdAsc(Long afterId);
 }
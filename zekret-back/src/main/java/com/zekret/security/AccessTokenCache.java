@@ -0,0 +1,49 @@
+package com.zekret.security;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caché acotada del estado de los tokens de acceso (activo o cerrado).
+ * Un token solo pasa de activo a cerrado, y todo cierre invalida su entrada,
+ * por lo que la caché nunca devuelve como activo un token revocado.
+ */
+@Component
+public class AccessTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessTokenCache.class);
+
+    private final Cache<String, Boolean> tokens;
+
+    public AccessTokenCache(@Value("${security.token-cache.max-size}") long maxSize,
+                            @Value("${security.token-cache.ttl}") Duration ttl) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Indica si el token está activo, consultando el loader solo si no está en caché.
+     */
+    public boolean isActive(String token, Predicate<String> loader) {
+        return tokens.get(token, loader::test);
+    }
+
+    /**
+     * Elimina el token de la caché. Debe llamarse cada vez que un token se marca como cerrado.
+     */
+    public void invalidate(String token) {
+        logger.debug("Invalidando token en caché");
+        tokens.invalidate(token);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.security.web.authentication.logout.LogoutHandler;
 
 import com.zekret.model.Token;
 import com.zekret.repo.ITokenRepo;
+import com.zekret.util.TokenHasher;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,9 +22,11 @@ public class CustomLogoutHandler implements LogoutHandler {
     private static final Logger logger = LoggerFactory.getLogger(CustomLogoutHandler.class);
 
     private final ITokenRepo tokenRepository;
+    private final AccessTokenCache accessTokenCache;
 
-    public CustomLogoutHandler(ITokenRepo tokenRepository) {
+    public CustomLogoutHandler(ITokenRepo tokenRepository, AccessTokenCache accessTokenCache) {
         this.tokenRepository = tokenRepository;
+        this.accessTokenCache = accessTokenCache;
     }
 
     @Override
@@ -35,10 +38,11 @@ public class CustomLogoutHandler implements LogoutHandler {
             return;
         }
         String token = authHeader.substring(7);
-        Token storedToken = tokenRepository.findByAccessToken(token).orElse(null);
+        Token storedToken = tokenRepository.findByAccessTokenHash(TokenHasher.sha256(token)).orElse(null);
         if(storedToken != null) {
             storedToken.setLoggedOut(true);
             tokenRepository.save(storedToken);
+            accessTokenCache.invalidate(storedToken.getAccessToken());
             logger.info("Token marcado como cerrado exitosamente");
         } else {
             logger.warn("No se encontró token en base de datos para logout");
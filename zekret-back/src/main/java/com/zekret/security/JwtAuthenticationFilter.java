@@ -12,7 +12,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.zekret.service.impl.JwtService;
 import com.zekret.service.impl.UserDetailsServiceImpl;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.micrometer.common.lang.NonNull;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -30,12 +34,28 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    /**
+     * Atributo de la petición con los claims ya verificados del token de acceso.
+     */
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+
+    /**
+     * Timer del trabajo propio del filtro (verificación del token y carga del usuario),
+     * sin incluir el resto de la cadena. Etiquetado por resultado.
+     */
+    public static final String TIMER_NAME = "zekret.jwt.filter";
+
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsServiceImpl userDetailsService, PrincipalCache principalCache,
+                                   MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -43,29 +63,59 @@ public final class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull HttpServletResponse response, 
                                     @NonNull FilterChain filterChain)
 			throws ServletException, IOException {
-		String authHeader = request.getHeader("Authorization");
         logger.debug("Procesando filtro JWT para request: {} {}", request.getMethod(), request.getRequestURI());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            outcome = authenticate(request);
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                    .description("Tiempo de autenticación JWT por petición")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Verifica el token y establece el usuario en el contexto de seguridad.
+     * 
+     * @return Resultado para la etiqueta del timer
+     */
+    private String authenticate(HttpServletRequest request) {
+		String authHeader = request.getHeader("Authorization");
         if(authHeader == null || !authHeader.startsWith("Bearer ")) {
             logger.debug("No se encontró header Authorization válido, continuando cadena de filtros");
-            filterChain.doFilter(request,response);
-            return;
+            return "anonymous";
         }
         String token = authHeader.substring(7);
-        String correo = jwtService.extractUsername(token);
+        // La firma se verifica una sola vez por petición; los claims se reutilizan después
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(token);
+        } catch (JwtException e) {
+            logger.warn("Token JWT inválido: {}", e.getMessage());
+            return "invalid";
+        }
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        String correo = claims.getSubject();
         logger.debug("Token extraído para usuario: {}", correo);
-        if(correo != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(correo);
-            if(jwtService.isValid(token, userDetails)) {
-                logger.info("Token JWT válido para usuario: {}", correo);
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            } else {
-                logger.warn("Token JWT inválido para usuario: {}", correo);
-            }
+        if(correo == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return "skipped";
         }
-        filterChain.doFilter(request, response);
+        // Usuario y estado del token salen de caché: una petición con token válido no ejecuta SQL
+        UserDetails userDetails = principalCache.get(correo, userDetailsService::loadUserByUsername);
+        if(jwtService.isValid(claims, token, userDetails)) {
+            logger.info("Token JWT válido para usuario: {}", correo);
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails, null, userDetails.getAuthorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+            return "authenticated";
+        }
+        logger.warn("Token JWT inválido para usuario: {}", correo);
+        return "rejected";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.zekret.security;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zekret.model.User;
+
+/**
+ * Caché acotada de usuarios autenticados, indexada por el subject del token.
+ * Evita consultar tbl_user en cada petición; las entradas expiran tras un TTL corto
+ * y se invalidan cuando cambian los datos del usuario.
+ */
+@Component
+public class PrincipalCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrincipalCache.class);
+
+    private final Cache<String, User> principals;
+
+    public PrincipalCache(@Value("${security.principal-cache.max-size}") long maxSize,
+                          @Value("${security.principal-cache.ttl}") Duration ttl) {
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Obtiene el usuario del subject indicado, cargándolo con el loader si no está en caché.
+     * Si el loader devuelve null no se guarda nada y se devuelve null.
+     */
+    public User get(String subject, Function<String, User> loader) {
+        return principals.get(subject, loader);
+    }
+
+    /**
+     * Guarda el usuario autenticado para el subject indicado.
+     */
+    public void put(String subject, User user) {
+        principals.put(subject, user);
+    }
+
+    /**
+     * Elimina de la caché todas las entradas del usuario indicado.
+     */
+    public void invalidate(Long userId) {
+        logger.debug("Invalidando usuario en caché: {}", userId);
+        principals.asMap().values().removeIf(user -> userId.equals(user.getId()));
+    }
+}
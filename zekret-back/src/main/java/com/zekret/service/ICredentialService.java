@@ -3,17 +3,21 @@ package com.zekret.service;
 import java.util.List;
 import java.util.Optional;
 
+import com.zekret.dto.CredentialDTO;
+import com.zekret.dto.KeysetPageDTO;
 import com.zekret.model.Credential;
 
 public interface ICredentialService extends ICRUD<Credential, Long> {
     
     /**
-     * Get all credentials for a specific user
+     * Get a page of credentials for a specific user as response projections
      * 
      * @param userId The user ID to filter by
-     * @return List of credentials belonging to the user
+     * @param afterId Last id of the previous page, decoded from its cursor (0 for the first page)
+     * @param limit Maximum number of credentials in the page
+     * @return Page of credentials belonging to the user
      */
-    List<Credential> getCredentialsByUserId(Long userId);
+    KeysetPageDTO<CredentialDTO> getCredentialsByUserId(Long userId, long afterId, int limit);
     
     /**
      * Get a credential by ZRN and user ID
@@ -23,15 +27,35 @@ public interface ICredentialService extends ICRUD<Credential, Long> {
      * @return Optional containing the credential if found
      */
     Optional<Credential> getCredentialByZrnAndUserId(String zrn, Long userId);
+
+    /**
+     * Get a credential by ZRN and user ID as a response projection
+     * 
+     * @param zrn The ZRN identifier
+     * @param userId The user ID to filter by
+     * @return Optional containing the credential if found
+     */
+    Optional<CredentialDTO> getCredentialDTOByZrnAndUserId(String zrn, Long userId);
     
     /**
-     * Get all credentials for a specific namespace and user
+     * Get all credentials for a specific namespace and user as response projections
      * 
      * @param namespaceZrn The namespace ZRN
      * @param userId The user ID to filter by
      * @return List of credentials in the namespace belonging to the user
      */
-    List<Credential> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId);
+    List<CredentialDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId);
+
+    /**
+     * Get a page of credentials for a specific namespace and user as response projections
+     * 
+     * @param namespaceZrn The namespace ZRN
+     * @param userId The user ID to filter by
+     * @param afterId Last id of the previous page, decoded from its cursor (0 for the first page)
+     * @param limit Maximum number of credentials in the page
+     * @return Page of credentials in the namespace belonging to the user
+     */
+    KeysetPageDTO<CredentialDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId, long afterId, int limit);
     
     /**
      * Check if a credential exists for the user
@@ -1,19 +1,22 @@
 package com.zekret.service;
 
-import java.util.List;
 import java.util.Optional;
 
+import com.zekret.dto.KeysetPageDTO;
+import com.zekret.dto.NamespaceDTO;
 import com.zekret.model.Namespace;
 
 public interface INamespaceService extends ICRUD<Namespace, Long> {
     
     /**
-     * Get all namespaces for a specific user
+     * Get a page of namespaces for a specific user, with the number of credentials in each, as response projections
      * 
      * @param userId The user ID to filter by
-     * @return List of namespaces belonging to the user
+     * @param afterId Last id of the previous page, decoded from its cursor (0 for the first page)
+     * @param limit Maximum number of namespaces in the page
+     * @return Page of namespaces belonging to the user
      */
-    List<Namespace> getNamespacesByUserId(Long userId);
+    KeysetPageDTO<NamespaceDTO> getNamespacesByUserId(Long userId, long afterId, int limit);
     
     /**
      * Get a namespace by ZRN and user ID
@@ -23,6 +26,15 @@ public interface INamespaceService extends ICRUD<Namespace, Long> {
      * @return Optional containing the namespace if found
      */
     Optional<Namespace> getNamespaceByZrnAndUserId(String zrn, Long userId);
+
+    /**
+     * Get a namespace by ZRN and user ID, with its credentials, as a response projection
+     * 
+     * @param zrn The ZRN identifier
+     * @param userId The user ID to filter by
+     * @return Optional containing the namespace if found
+     */
+    Optional<NamespaceDTO> getNamespaceDTOByZrnAndUserId(String zrn, Long userId);
     
     /**
      * Check if a namespace exists for the user
@@ -15,6 +15,8 @@ import com.zekret.model.Token;
 import com.zekret.model.User;
 import com.zekret.repo.ITokenRepo;
 import com.zekret.repo.IUserRepo;
+import com.zekret.security.AccessTokenCache;
+import com.zekret.security.PrincipalCache;
 
 @Service
 public class AuthenticationService {
@@ -36,6 +38,12 @@ public class AuthenticationService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private AccessTokenCache accessTokenCache;
+
     /**
      * Authenticate user and generate JWT tokens
      */
@@ -92,6 +100,7 @@ public class AuthenticationService {
 
         validTokens.forEach(token -> token.setLoggedOut(true));
         tokenRepository.saveAll(validTokens);
+        validTokens.forEach(token -> accessTokenCache.invalidate(token.getAccessToken()));
         
         logger.info("Revoked {} tokens for user: {}", validTokens.size(), usuario.getUsername());
     }
@@ -117,6 +126,7 @@ public class AuthenticationService {
         logger.info("Updating password for user ID: {}", id);
         
         int rowsUpdated = repository.updatePasswordById(id, passwordEncoder.encode(password));
+        principalCache.invalidate(id);
         
         logger.info("Password updated for user ID: {} - {} rows affected", id, rowsUpdated);
         return rowsUpdated;
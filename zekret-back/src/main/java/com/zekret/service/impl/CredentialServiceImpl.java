@@ -4,10 +4,13 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.zekret.dto.CredentialDTO;
+import com.zekret.dto.KeysetPageDTO;
 import com.zekret.model.Credential;
 import com.zekret.model.CredentialType;
 import com.zekret.model.Namespace;
@@ -16,6 +19,7 @@ import com.zekret.repo.ICredentialTypeRepo;
 import com.zekret.repo.IGenericRepo;
 import com.zekret.repo.INamespaceRepo;
 import com.zekret.service.ICredentialService;
+import com.zekret.util.KeysetCursor;
 
 @Service
 public class CredentialServiceImpl extends CRUDImpl<Credential, Long> implements ICredentialService {
@@ -93,9 +97,14 @@ public class CredentialServiceImpl extends CRUDImpl<Credential, Long> implements
     }
 
     @Override
-    public List<Credential> getCredentialsByUserId(Long userId) {
-        logger.info("Getting credentials for user ID: {}", userId);
-        return credentialRepo.findByUserId(userId);
+    public KeysetPageDTO<CredentialDTO> getCredentialsByUserId(Long userId, long afterId, int limit) {
+        logger.info("Getting credentials page for user ID: {}", userId);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        // Fetch one extra row to know whether there is a next page
+        List<CredentialDTO> rows = credentialRepo.findDTOPageByUserId(
+            userId, afterId, PageRequest.of(0, pageSize + 1)
+        );
+        return KeysetPageDTO.of(rows, pageSize, CredentialDTO::id);
     }
 
     @Override
@@ -105,9 +114,25 @@ public class CredentialServiceImpl extends CRUDImpl<Credential, Long> implements
     }
 
     @Override
-    public List<Credential> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId) {
+    public Optional<CredentialDTO> getCredentialDTOByZrnAndUserId(String zrn, Long userId) {
+        logger.info("Getting credential projection by ZRN: {} for user ID: {}", zrn, userId);
+        return credentialRepo.findDTOByZrnAndUserId(zrn, userId);
+    }
+
+    @Override
+    public List<CredentialDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId) {
         logger.info("Getting credentials by namespace ZRN: {} for user ID: {}", namespaceZrn, userId);
-        return credentialRepo.findByNamespaceZrnAndUserId(namespaceZrn, userId);
+        return credentialRepo.findDTOByNamespaceZrnAndUserId(namespaceZrn, userId);
+    }
+
+    @Override
+    public KeysetPageDTO<CredentialDTO> getCredentialsByNamespaceAndUserId(String namespaceZrn, Long userId, long afterId, int limit) {
+        logger.info("Getting credentials page by namespace ZRN: {} for user ID: {}", namespaceZrn, userId);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        List<CredentialDTO> rows = credentialRepo.findDTOPageByNamespaceZrnAndUserId(
+            namespaceZrn, userId, afterId, PageRequest.of(0, pageSize + 1)
+        );
+        return KeysetPageDTO.of(rows, pageSize, CredentialDTO::id);
     }
 
     @Override
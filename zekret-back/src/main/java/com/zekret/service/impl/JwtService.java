@@ -12,11 +12,15 @@ import org.springframework.stereotype.Service;
 
 import com.zekret.model.User;
 import com.zekret.repo.ITokenRepo;
+import com.zekret.security.AccessTokenCache;
+import com.zekret.util.TokenHasher;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class JwtService {
@@ -33,6 +37,20 @@ public class JwtService {
     @Autowired
     private ITokenRepo tokenRepo;
 
+    @Autowired
+    private AccessTokenCache accessTokenCache;
+
+    // La clave y el parser son inmutables y thread-safe, se construyen una sola vez
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64URL.decode(secretKey);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     public String generateAccessToken(User usuario) {
         return generateToken(usuario, accessTokenExpire);
     }
@@ -44,7 +62,7 @@ public class JwtService {
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expireTime ))
                 .claim("username", usuario.getUsername())
-                .signWith(getSigninKey())
+                .signWith(signingKey)
                 .compact();
 
         return token;
@@ -55,55 +73,51 @@ public class JwtService {
     }
     
     public boolean isValid(String token, UserDetails user) {
-        String username = extractUsername(token);
+        return isValid(parseClaims(token), token, user);
+    }
 
-        boolean isValidToken = tokenRepo
-            .findByAccessToken(token)
-            .map(t -> !t.isLoggedOut())
-            .orElse(false);
+    /**
+     * Validates an access token whose claims were already parsed and verified
+     */
+    public boolean isValid(Claims claims, String token, UserDetails user) {
+        boolean isValidToken = accessTokenCache.isActive(token, t -> tokenRepo
+            .findByAccessTokenHash(TokenHasher.sha256(t))
+            .map(stored -> !stored.isLoggedOut())
+            .orElse(false));
         
-        return username.equals(user.getUsername()) && !isTokenExpired(token) && isValidToken;
+        return claims.getSubject().equals(user.getUsername()) && !isTokenExpired(claims) && isValidToken;
     }
     
     public boolean isValidRefreshToken(String token, User usuario) {
-        String username = extractUsername(token);
+        Claims claims = parseClaims(token);
 
         boolean validRefreshToken = tokenRepo
-                .findByRefreshToken(token)
+                .findByRefreshTokenHash(TokenHasher.sha256(token))
                 .map(t -> !t.isLoggedOut())
                 .orElse(false);
 
-        return username.equals(usuario.getUsername()) && !isTokenExpired(token) && validRefreshToken;
+        return claims.getSubject().equals(usuario.getUsername()) && !isTokenExpired(claims) && validRefreshToken;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
     public <T> T extractClaim(String token, Function<Claims, T> resolver) {
-        Claims claims = extractAllClaims(token);
+        Claims claims = parseClaims(token);
         return resolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSigninKey())
-                .build()
+    /**
+     * Verifies the signature of the token and returns its claims
+     */
+    public Claims parseClaims(String token) {
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
-
-    private SecretKey getSigninKey() {
-        byte[] keyBytes = Decoders.BASE64URL.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
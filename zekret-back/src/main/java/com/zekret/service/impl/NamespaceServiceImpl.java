@@ -1,16 +1,24 @@
 package com.zekret.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.zekret.dto.KeysetPageDTO;
+import com.zekret.dto.NamespaceCredentialCountDTO;
+import com.zekret.dto.NamespaceDTO;
 import com.zekret.model.Namespace;
+import com.zekret.repo.ICredentialRepo;
 import com.zekret.repo.INamespaceRepo;
 import com.zekret.repo.IGenericRepo;
 import com.zekret.service.INamespaceService;
+import com.zekret.util.KeysetCursor;
 
 @Service
 public class NamespaceServiceImpl extends CRUDImpl<Namespace, Long> implements INamespaceService {
@@ -18,9 +26,11 @@ public class NamespaceServiceImpl extends CRUDImpl<Namespace, Long> implements I
     private static final Logger logger = LoggerFactory.getLogger(NamespaceServiceImpl.class);
 
     private final INamespaceRepo namespaceRepo;
+    private final ICredentialRepo credentialRepo;
 
-    public NamespaceServiceImpl(INamespaceRepo namespaceRepo) {
+    public NamespaceServiceImpl(INamespaceRepo namespaceRepo, ICredentialRepo credentialRepo) {
         this.namespaceRepo = namespaceRepo;
+        this.credentialRepo = credentialRepo;
     }
 
     @Override
@@ -40,9 +50,28 @@ public class NamespaceServiceImpl extends CRUDImpl<Namespace, Long> implements I
     }
 
     @Override
-    public List<Namespace> getNamespacesByUserId(Long userId) {
-        logger.info("Getting namespaces for user ID: {}", userId);
-        return namespaceRepo.findByUserId(userId);
+    public KeysetPageDTO<NamespaceDTO> getNamespacesByUserId(Long userId, long afterId, int limit) {
+        logger.info("Getting namespaces page for user ID: {}", userId);
+        int pageSize = KeysetCursor.clampLimit(limit);
+        // Fetch one extra row to know whether there is a next page
+        KeysetPageDTO<NamespaceDTO> page = KeysetPageDTO.of(
+            namespaceRepo.findDTOPageByUserId(userId, afterId, PageRequest.of(0, pageSize + 1)),
+            pageSize,
+            NamespaceDTO::id
+        );
+        if (page.items().isEmpty()) {
+            return page;
+        }
+
+        // One count query for the namespaces in this page; the credentials themselves are paged through /v1/credentials
+        List<String> namespaceZrns = page.items().stream().map(NamespaceDTO::zrn).toList();
+        Map<String, Long> countsByNamespace = credentialRepo.countByUserIdAndNamespaceZrnIn(userId, namespaceZrns).stream()
+                .collect(Collectors.toMap(NamespaceCredentialCountDTO::namespaceZrn, NamespaceCredentialCountDTO::credentialCount));
+
+        List<NamespaceDTO> namespaces = page.items().stream()
+                .map(namespace -> namespace.withCredentialCount(countsByNamespace.getOrDefault(namespace.zrn(), 0L)))
+                .toList();
+        return new KeysetPageDTO<>(namespaces, page.nextCursor());
     }
 
     @Override
@@ -51,6 +80,13 @@ public class NamespaceServiceImpl extends CRUDImpl<Namespace, Long> implements I
         return namespaceRepo.findByZrnAndUserId(zrn, userId);
     }
 
+    @Override
+    public Optional<NamespaceDTO> getNamespaceDTOByZrnAndUserId(String zrn, Long userId) {
+        logger.info("Getting namespace projection by ZRN: {} for user ID: {}", zrn, userId);
+        return namespaceRepo.findDTOByZrnAndUserId(zrn, userId)
+                .map(namespace -> namespace.withCredentials(credentialRepo.findDTOByNamespaceZrnAndUserId(zrn, userId)));
+    }
+
     @Override
     public boolean existsNamespaceByZrnAndUserId(String zrn, Long userId) {
         logger.info("Checking if namespace exists by ZRN: {} for user ID: {}", zrn, userId);
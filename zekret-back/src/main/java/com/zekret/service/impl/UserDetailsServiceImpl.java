@@ -1,11 +1,11 @@
 package com.zekret.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.zekret.model.User;
 import com.zekret.repo.IUserRepo;
 
 @Service
@@ -15,7 +15,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 	private IUserRepo repo;
 
 	@Override
-	public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
+	public User loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
 		return repo.findByEmailOrUsername(usernameOrEmail, usernameOrEmail)
 				.orElseThrow(() -> new UsernameNotFoundException("User not found: " + usernameOrEmail));
 	}
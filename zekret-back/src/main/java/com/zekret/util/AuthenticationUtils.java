@@ -1,17 +1,22 @@
 package com.zekret.util;
 
-import java.util.List;
-import java.util.Optional;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import com.zekret.model.User;
-import com.zekret.service.IUserService;
+import com.zekret.repo.IUserRepo;
+import com.zekret.security.JwtAuthenticationFilter;
+import com.zekret.security.PrincipalCache;
 import com.zekret.service.impl.JwtService;
 
+import io.jsonwebtoken.Claims;
+
 /**
  * Utility class for JWT authentication operations
  * Provides common methods for extracting and validating users from JWT tokens
@@ -25,11 +30,17 @@ public class AuthenticationUtils {
     private JwtService jwtService;
     
     @Autowired
-    private IUserService userService;
+    private IUserRepo userRepo;
+
+    @Autowired
+    private PrincipalCache principalCache;
     
     /**
      * Extracts and validates the authenticated user from the JWT token in the Authorization header
      * 
+     * The user is taken from the SecurityContext set by JwtAuthenticationFilter, then from the
+     * principal cache, and only as a last resort from an indexed lookup by email or username.
+     * 
      * @param authorizationHeader The Authorization header containing the Bearer token
      * @return The authenticated User entity
      * @throws RuntimeException if the header is invalid or user is not found
@@ -41,18 +52,21 @@ public class AuthenticationUtils {
         }
         
         String token = authorizationHeader.substring(7); // Remove "Bearer " prefix
-        String username = jwtService.extractUsername(token);
+        Claims claims = getVerifiedClaims();
+        String username = claims != null ? claims.getSubject() : jwtService.extractUsername(token);
         logger.info("Getting authenticated user: {}", username);
         
-        // Search in all users
-        List<User> allUsers = userService.getAll();
-        Optional<User> userOpt = allUsers.stream()
-                .filter(user -> user.getUsername().equals(username) || user.getEmail().equals(username))
-                .findFirst();
-        
-        if (userOpt.isPresent()) {
+        User principal = getPrincipalFromSecurityContext(username);
+        if (principal != null) {
+            logger.debug("User taken from security context: {}", username);
+            principalCache.put(username, principal);
+            return principal;
+        }
+
+        User user = principalCache.get(username, key -> userRepo.findByEmailOrUsername(key, key).orElse(null));
+        if (user != null) {
             logger.debug("User found and authenticated: {}", username);
-            return userOpt.get();
+            return user;
         } else {
             logger.error("User not found: {}", username);
             throw new RuntimeException("User not found: " + username);
@@ -82,4 +96,28 @@ public class AuthenticationUtils {
         }
         return authorizationHeader.substring(7);
     }
+
+    /**
+     * Returns the claims already verified by JwtAuthenticationFilter for the current request, if any
+     */
+    private Claims getVerifiedClaims() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object claims = attributes.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return claims instanceof Claims verified ? verified : null;
+    }
+
+    /**
+     * Returns the principal of the current request if it belongs to the given username or email
+     */
+    private User getPrincipalFromSecurityContext(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user
+                && (username.equals(user.getUsername()) || username.equals(user.getEmail()))) {
+            return user;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,73 @@
+package com.zekret.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utilidad para los cursores opacos de la paginación por keyset
+ * 
+ * El cursor codifica el último id devuelto; la página siguiente se obtiene con
+ * el predicado "id_user = ? AND id > ?" ordenado por id, sin OFFSET, de modo que
+ * el coste de cada página no depende de su profundidad.
+ */
+public class KeysetCursor {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String PREFIX = "id:";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Codifica el id de la última fila de una página
+     * 
+     * @param id El id de la última fila devuelta
+     * @return Cursor opaco en base64url
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor recibido del cliente
+     * 
+     * @param cursor Cursor opaco, o null/vacío para la primera página
+     * @return El id a partir del cual continuar (0 para la primera página)
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            long id = Long.parseLong(value.substring(PREFIX.length()));
+            if (id < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Ajusta el tamaño de página solicitado al rango permitido
+     * 
+     * @param limit Tamaño solicitado por el cliente
+     * @return Tamaño entre 1 y MAX_LIMIT
+     */
+    public static int clampLimit(int limit) {
+        if (limit < 1) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+}
@@ -0,0 +1,37 @@
+package com.zekret.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utilidad para calcular el digest SHA-256 de un token
+ * 
+ * tblToken guarda un digest de 32 bytes de cada token con índice único,
+ * de modo que las búsquedas no comparan el JWT completo.
+ */
+public class TokenHasher {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private TokenHasher() {
+    }
+
+    /**
+     * Calcula el digest SHA-256 de un token
+     * 
+     * @param token El token en texto plano
+     * @return Digest de 32 bytes, o null si el token es null
+     */
+    public static byte[] sha256(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+-- Esquema base, equivalente al que generaba spring.jpa.hibernate.ddl-auto=update
+-- antes de los cambios versionados. Las bases de datos existentes se marcan con
+-- esta versión (baseline-on-migrate) y solo aplican las migraciones posteriores,
+-- así que cualquier cambio de esquema va en una migración nueva, nunca aquí.
+
+CREATE TABLE tbl_user (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255) NOT NULL,
+    username    VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    enabled     BIT(1)       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE tbl_credential_type (
+    id    BIGINT       NOT NULL AUTO_INCREMENT,
+    zrn   VARCHAR(255) NOT NULL,
+    name  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_credential_type_zrn UNIQUE (zrn)
+) ENGINE = InnoDB;
+
+CREATE TABLE tbl_namespace (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(255) NOT NULL,
+    zrn          VARCHAR(255) NOT NULL,
+    description  VARCHAR(255) NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    id_user      BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_namespace_zrn UNIQUE (zrn),
+    CONSTRAINT fk_namespace_user FOREIGN KEY (id_user) REFERENCES tbl_user (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tbl_credential (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    title               VARCHAR(255) NOT NULL,
+    zrn                 VARCHAR(255) NOT NULL,
+    username            VARCHAR(255),
+    password            VARCHAR(255),
+    ssh_public_key      TEXT,
+    ssh_private_key     TEXT,
+    secret_text         VARCHAR(255),
+    file_name           VARCHAR(255),
+    file_content        TEXT,
+    notes               TEXT,
+    created_at          DATETIME(6)  NOT NULL,
+    updated_at          DATETIME(6)  NOT NULL,
+    id_credential_type  BIGINT,
+    id_namespace        BIGINT,
+    id_user             BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_credential_zrn UNIQUE (zrn),
+    CONSTRAINT fk_credential_credential_type FOREIGN KEY (id_credential_type) REFERENCES tbl_credential_type (id),
+    CONSTRAINT fk_credential_namespace FOREIGN KEY (id_namespace) REFERENCES tbl_namespace (id),
+    CONSTRAINT fk_credential_user FOREIGN KEY (id_user) REFERENCES tbl_user (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tbl_token (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    access_token        VARCHAR(255) NOT NULL,
+    refresh_token       VARCHAR(255) NOT NULL,
+    logged_out          BIT(1)       NOT NULL,
+    user_id             BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_token_access_token UNIQUE (access_token),
+    CONSTRAINT uk_token_refresh_token UNIQUE (refresh_token),
+    CONSTRAINT fk_token_user FOREIGN KEY (user_id) REFERENCES tbl_user (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,12 @@
+-- Digests SHA-256 de los tokens para buscarlos por índice en lugar de comparar el JWT completo.
+-- Nullable hasta que TokenHashBackfill complete las filas antiguas.
+-- IF NOT EXISTS porque las bases de datos que ya arrancaron con ddl-auto=update
+-- o con la migración de Quarkus sobre la misma tbl_token ya tienen las columnas.
+
+ALTER TABLE tbl_token
+    ADD COLUMN IF NOT EXISTS access_token_hash BINARY(32),
+    ADD COLUMN IF NOT EXISTS refresh_token_hash BINARY(32);
+
+-- Mismos nombres que usa la migración de Quarkus, para no duplicar los índices
+CREATE UNIQUE INDEX IF NOT EXISTS ux_token_access_token_hash ON tbl_token (access_token_hash);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_token_refresh_token_hash ON tbl_token (refresh_token_hash);
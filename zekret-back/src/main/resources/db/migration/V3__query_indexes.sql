@@ -0,0 +1,20 @@
+-- Índices compuestos para los patrones de consulta de los repositorios.
+-- InnoDB añade la clave primaria a cada índice secundario, por lo que
+-- (id_user, zrn) también sirve a los existsBy/findBy por ZRN y usuario.
+-- IF NOT EXISTS porque las bases de datos creadas con ddl-auto=update ya pueden
+-- tener idx_namespace_user_id e idx_credential_user_id (antes declarados con @Index),
+-- y la migración de Quarkus crea idx_token_user_logged_out sobre la misma tbl_token.
+
+-- findByZrnAndUserId / existsByZrnAndUserId
+CREATE INDEX IF NOT EXISTS idx_namespace_user_zrn ON tbl_namespace (id_user, zrn);
+CREATE INDEX IF NOT EXISTS idx_credential_user_zrn ON tbl_credential (id_user, zrn);
+
+-- Credenciales de un namespace para un usuario (listado por namespace)
+CREATE INDEX IF NOT EXISTS idx_credential_namespace_user ON tbl_credential (id_namespace, id_user);
+
+-- Paginación por keyset: WHERE id_user = ? AND id > ? ORDER BY id
+CREATE INDEX IF NOT EXISTS idx_namespace_user_id ON tbl_namespace (id_user, id);
+CREATE INDEX IF NOT EXISTS idx_credential_user_id ON tbl_credential (id_user, id);
+
+-- Tokens válidos de un usuario (revocación en login/logout)
+CREATE INDEX IF NOT EXISTS idx_token_user_logged_out ON tbl_token (user_id, logged_out);
@@ -10,7 +10,7 @@ export class CredentialResponseDTO {
     sshPrivateKey: string;
     secretText: string;
     fileName: string;
-    fileContent: string;
+    fileSize: number;
     notes: string;
     createdAt: Date;
     updatedAt: Date;
@@ -18,6 +18,14 @@ export class CredentialResponseDTO {
     namespace: NamespaceResponseDTO;
 }
 
+export class CredentialSummaryDTO {
+    zrn: string;
+    title: string;
+    createdAt: Date;
+    updatedAt: Date;
+    credentialType: CredentialTypeDTO;
+}
+
 export class CredentialRequestDTO {
     title: string;
     username: string;
@@ -26,7 +34,6 @@ export class CredentialRequestDTO {
     sshPrivateKey: string;
     secretText: string;
     fileName: string;
-    fileContent: string;
     notes: string;
     credentialTypeZrn: string;
     namespaceZrn: string;
@@ -6,6 +6,12 @@ export interface APIResponseDTO<T> {
     success: boolean;
     timestamp: string;
     data: T;
+    nextCursor?: string;
+}
+
+export interface CredentialFileDTO {
+    fileName: string;
+    fileSize: number;
 }
 
 export interface AuthenticationResponseDTO {
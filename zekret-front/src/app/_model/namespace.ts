@@ -1,4 +1,4 @@
-import { CredentialResponseDTO } from "./credential";
+import { CredentialSummaryDTO } from "./credential";
 
 export class NamespaceResponseDTO {
     name: string;
@@ -6,7 +6,8 @@ export class NamespaceResponseDTO {
     description: string;
     createdAt: Date;
     updatedAt: Date;
-    credentials: CredentialResponseDTO[];
+    credentials?: CredentialSummaryDTO[];
+    credentialCount?: number;
 }
 
 export class NamespaceRequestDTO {
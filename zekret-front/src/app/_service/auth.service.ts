@@ -1,6 +1,7 @@
 import { HttpClient } from '@angular/common/http';
 import { Injectable } from '@angular/core';
 import { Router } from '@angular/router';
+import { Observable, finalize, shareReplay, tap } from 'rxjs';
 import { APIResponseDTO, AuthenticationResponseDTO } from '../_model/dto';
 import { UtilMethods } from '../util/util';
 import { EnvService } from './env.service';
@@ -12,6 +13,9 @@ export class AuthService {
 
   private url: string = `${this.envService.getApiUrl()}/auth`;
 
+  // Refresco en curso; se comparte para que las peticiones concurrentes no reutilicen el mismo refresh token
+  private refreshInProgress: Observable<APIResponseDTO<AuthenticationResponseDTO>> | null = null;
+
   constructor(
     private http: HttpClient,
     private router: Router,
@@ -23,6 +27,27 @@ export class AuthService {
     return this.http.get<APIResponseDTO<AuthenticationResponseDTO>>(`${this.url}/login?username=${email}&password=${password}`);
   }
 
+  refresh(): Observable<APIResponseDTO<AuthenticationResponseDTO>> {
+    if (!this.refreshInProgress) {
+      this.refreshInProgress = this.http.post<APIResponseDTO<AuthenticationResponseDTO>>(
+        `${this.url}/refresh`,
+        { refresh_token: this.utilMethods.getRefreshToken() }
+      ).pipe(
+        tap(response => {
+          this.utilMethods.setJwtToken(response.data.access_token);
+          this.utilMethods.setRefreshToken(response.data.refresh_token);
+        }),
+        finalize(() => this.refreshInProgress = null),
+        shareReplay(1)
+      );
+    }
+    return this.refreshInProgress;
+  }
+
+  canRefresh(): boolean {
+    return this.utilMethods.getRefreshToken() != null;
+  }
+
   isLogged() {
     let token = this.utilMethods.getJwtToken();
     return token != null;
@@ -1,14 +1,14 @@
 import { Injectable } from '@angular/core';
 import { GenericService } from './generic.service';
-import { HttpClient } from '@angular/common/http';
-import { CredentialRequestDTO, CredentialResponseDTO } from '../_model/credential';
-import { APIResponseDTO } from '../_model/dto';
+import { HttpClient, HttpParams } from '@angular/common/http';
+import { CredentialRequestDTO, CredentialResponseDTO, CredentialSummaryDTO } from '../_model/credential';
+import { APIResponseDTO, CredentialFileDTO } from '../_model/dto';
 import { EnvService } from './env.service';
 
 @Injectable({
   providedIn: 'root'
 })
-export class CredentialService extends GenericService<CredentialRequestDTO, CredentialResponseDTO> {
+export class CredentialService extends GenericService<CredentialRequestDTO, CredentialSummaryDTO> {
 
   constructor(
     protected override http: HttpClient,
@@ -22,6 +22,28 @@ export class CredentialService extends GenericService<CredentialRequestDTO, Cred
   }
 
   getAllByNamespaceZrn(namespaceZrn: string) {
-    return this.http.get<APIResponseDTO<CredentialResponseDTO[]>>(`${this.url}/namespace/${namespaceZrn}`);
+    // The whole namespace in one response, streamed by the backend from a database cursor
+    return this.http.get<APIResponseDTO<CredentialSummaryDTO[]>>(`${this.url}/namespace/${namespaceZrn}/all`);
+  }
+
+  getDetailByZrn(zrn: string) {
+    // List endpoints only return summaries; secrets are read one credential at a time
+    return this.http.get<APIResponseDTO<CredentialResponseDTO>>(`${this.url}/${zrn}`);
+  }
+
+  uploadFile(zrn: string, content: Blob | string, fileName?: string) {
+    // The file travels as raw bytes, outside the credential JSON
+    let params = new HttpParams();
+    if (fileName) {
+      params = params.set('fileName', fileName);
+    }
+    return this.http.put<APIResponseDTO<CredentialFileDTO>>(`${this.url}/${zrn}/file`, content, {
+      params,
+      headers: { 'Content-Type': 'application/octet-stream' }
+    });
+  }
+
+  downloadFileAsText(zrn: string) {
+    return this.http.get(`${this.url}/${zrn}/file`, { responseType: 'text' });
   }
 }
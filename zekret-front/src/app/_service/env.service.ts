@@ -8,6 +8,7 @@ export class EnvService {
   private production: boolean;
   private apiUrl: string;
   private tokenName: string;
+  private refreshTokenName: string;
   private domains: string[];
   private disallowedRoutes: string[];
 
@@ -17,6 +18,7 @@ export class EnvService {
     this.production = env.production || false;
     this.apiUrl = env.apiUrl || 'http://localhost:8080/v1';
     this.tokenName = env.token_name || 'access_token';
+    this.refreshTokenName = env.refresh_token_name || 'refresh_token';
     this.domains = env.domains || ['localhost:8080'];
     this.disallowedRoutes = env.disallowedRoutes || [
       'http://localhost:8080/v1/auth/login', 
@@ -36,6 +38,10 @@ export class EnvService {
     return this.tokenName;
   }
 
+  getRefreshTokenName(): string {
+    return this.refreshTokenName;
+  }
+
   getDomains(): string[] {
     return this.domains;
   }
@@ -1,5 +1,5 @@
 import { inject } from "@angular/core";
-import { Observable } from "rxjs";
+import { Observable, catchError, map, of } from "rxjs";
 import { AuthService } from "./auth.service";
 import { UtilMethods } from "../util/util";
 
@@ -17,6 +17,14 @@ export const authGuard = (): Observable<boolean> | boolean => {
     else {
         if (!utilMethods.isTokenExpired()) {
             return true;
+        } else if (authService.canRefresh()) {
+            return authService.refresh().pipe(
+                map(() => true),
+                catchError(() => {
+                    sessionStorage.clear();
+                    return of(false);
+                })
+            );
         } else {
             authService.logout().subscribe({
                 next: () => sessionStorage.clear(),
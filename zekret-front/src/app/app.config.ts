@@ -3,16 +3,31 @@ import { provideRouter } from '@angular/router';
 
 import { routes } from './app.routes';
 import { provideAnimationsAsync } from '@angular/platform-browser/animations/async';
-import { HttpInterceptorFn, provideHttpClient, withInterceptors } from '@angular/common/http';
+import { HttpErrorResponse, HttpInterceptorFn, HttpRequest, provideHttpClient, withInterceptors } from '@angular/common/http';
+import { catchError, switchMap, throwError } from 'rxjs';
 import { errorInterceptor } from './interceptors/error.interceptor';
 import { UtilMethods } from './util/util';
+import { AuthService } from './_service/auth.service';
+
+const withBearer = (req: HttpRequest<unknown>, token: string | null): HttpRequest<unknown> => {
+  if (!token) {
+    return req;
+  }
+  return req.clone({
+    setHeaders: {
+      Authorization: `Bearer ${token}`
+    }
+  });
+};
 
 const authInterceptor: HttpInterceptorFn = (req, next) => {
   const utilMethods = inject(UtilMethods);
+  const authService = inject(AuthService);
   const url = req.url;  
   // URLs que NO deben tener Authorization header
   const authFreeRoutes = [
     '/v1/auth/login',
+    '/v1/auth/refresh',
     '/v1/users/register'
   ];
   
@@ -22,23 +37,25 @@ const authInterceptor: HttpInterceptorFn = (req, next) => {
     return next(req);
   }
   
-  const token = utilMethods.getJwtToken();
-  if (token) {
-    req = req.clone({
-      setHeaders: {
-        Authorization: `Bearer ${token}`
+  // Si el access token expiró (401), se renueva con el refresh token y se reintenta una sola vez
+  return next(withBearer(req, utilMethods.getJwtToken())).pipe(
+    catchError((error: HttpErrorResponse) => {
+      if (error.status !== 401 || !authService.canRefresh()) {
+        return throwError(() => error);
       }
-    });
-  }
-  
-  return next(req);
+      return authService.refresh().pipe(
+        catchError(() => throwError(() => error)),
+        switchMap(() => next(withBearer(req, utilMethods.getJwtToken())))
+      );
+    })
+  );
 };
 
 export const appConfig: ApplicationConfig = {
   providers: [
     UtilMethods,
     provideHttpClient(
-      withInterceptors([authInterceptor, errorInterceptor])
+      withInterceptors([errorInterceptor, authInterceptor])
     ),
     provideRouter(routes), 
     provideAnimationsAsync()
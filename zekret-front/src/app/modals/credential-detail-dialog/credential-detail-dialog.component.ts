@@ -4,6 +4,7 @@ import { CredentialResponseDTO } from '../../_model/credential';
 import { CommonModule } from '@angular/common';
 import { NotificationService } from '../../_service/notification.service';
 import { Message } from '../../_model/message';
+import { CredentialService } from '../../_service/credential.service';
 
 @Component({
   selector: 'app-credential-detail-dialog',
@@ -18,9 +19,11 @@ export class CredentialDetailDialogComponent {
   isSSHUsername: boolean = false;
   isSecretText: boolean = false;
   isFile: boolean = false;
+  fileContent: string = '';
 
   constructor(
     private notificationService: NotificationService,
+    private credentialService: CredentialService,
     private dialogRef: MatDialogRef<CredentialDetailDialogComponent>,
     @Inject(MAT_DIALOG_DATA) public credential: CredentialResponseDTO
   ) {
@@ -43,6 +46,18 @@ export class CredentialDetailDialogComponent {
     this.dialogRef.close();
   }
 
+  private loadFileContent() {
+    if (this.credential.fileSize == null) {
+      return;
+    }
+    this.credentialService.downloadFileAsText(this.credential.zrn).subscribe({
+      next: (content) => this.fileContent = content,
+      error: (err) => this.notificationService.setMessageChange(
+        Message.error('Error al obtener el archivo', err)
+      )
+    });
+  }
+
   private setCredentialType() {
     switch (this.credential.credentialType.zrn) {
       case 'username_password':
@@ -56,6 +71,7 @@ export class CredentialDetailDialogComponent {
         break;
       case 'file':
         this.isFile = true;
+        this.loadFileContent();
         break;
     }
   }
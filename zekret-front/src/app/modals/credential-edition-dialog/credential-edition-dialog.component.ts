@@ -6,7 +6,7 @@ import { MAT_DIALOG_DATA, MatDialogRef } from '@angular/material/dialog';
 import { NamespaceResponseDTO } from '../../_model/namespace';
 import { CredentialRequestDTO, CredentialResponseDTO } from '../../_model/credential';
 import { CredentialService } from '../../_service/credential.service';
-import { catchError, EMPTY, finalize, switchMap } from 'rxjs';
+import { catchError, EMPTY, finalize, map, of, switchMap } from 'rxjs';
 import { Message } from '../../_model/message';
 import { LoaderComponent } from "../../shared/loader/loader.component";
 import { NotificationService } from '../../_service/notification.service';
@@ -49,7 +49,7 @@ export class CredentialEditionDialogComponent {
       secret_text: new FormControl(this.data.credential ? this.data.credential.secretText : ''),
 
       file_name: new FormControl(this.data.credential ? this.data.credential.fileName : ''),
-      file_content: new FormControl(this.data.credential ? this.data.credential.fileContent : ''),
+      file_content: new FormControl(''),
 
       notas: new FormControl(this.data.credential ? this.data.credential.notes : ''),
       
@@ -58,6 +58,7 @@ export class CredentialEditionDialogComponent {
     if(this.data.credential) {
       this.dialogTitle = 'Editar Credencial';
       this.changeValidators(this.data.credential.credentialType.zrn);
+      this.loadFileContent(this.data.credential);
     }
 
     FormMethods.addSubscribesForm(this.credentialForm, renderer);
@@ -120,36 +121,37 @@ export class CredentialEditionDialogComponent {
         break;
       case 'file':
         credentialData.fileName = this.credentialForm.value.file_name;
-        credentialData.fileContent = this.credentialForm.value.file_content;
         break;
     }
 
+    const uploadFile = credentialData.credentialTypeZrn === 'file'
+      && this.credentialForm.get('file_content')?.dirty === true;
+
     const operation = (this.data.credential)
       ? this.credentialService.modifyByZrn(credentialZrn, credentialData)
       : this.credentialService.register(credentialData);
 
     operation
       .pipe(
+        // The file content is uploaded on its own once the credential exists, and only if the user edited it
+        switchMap(response => uploadFile && response.success
+          ? this.credentialService.uploadFile(response.data.zrn, this.credentialForm.value.file_content ?? '', credentialData.fileName)
+              .pipe(map(() => response))
+          : of(response)),
         catchError(error => {
           this.notificationService.setMessageChange(
             Message.error('Ocurrió un error al procesar la operación', error)
           );
           return EMPTY;
         }),
-        switchMap(() => this.credentialService.getAllByNamespaceZrn(this.data.namespace.zrn)),
-        catchError(error => {
-          this.notificationService.setMessageChange(
-            Message.error('Ocurrió un error al obtener las credenciales', error)
-          );
-          return EMPTY;
-        }),
         finalize(() => {
           this.isLoading = false
         })
       )
       .subscribe((response) => {
           if (response.success) {
-            this.credentialService.setChangeObject(response.data);
+            // The credentials view reloads its summaries when notified
+            this.credentialService.setChangeObject([response.data]);
             this.notificationService.setMessageChange(
               Message.success('Credencial procesada correctamente')
             );
@@ -165,6 +167,20 @@ export class CredentialEditionDialogComponent {
   closeDialog() {
     this.dialogRef.close();
   }
+
+  private loadFileContent(credential: CredentialResponseDTO) {
+    if (credential.credentialType.zrn !== 'file' || credential.fileSize == null) {
+      return;
+    }
+    // Disabled until the stored file arrives, so it can be neither edited and then overwritten nor saved empty
+    const fileContent = this.credentialForm.get('file_content');
+    fileContent?.disable();
+    this.credentialService.downloadFileAsText(credential.zrn)
+      .subscribe(content => {
+        fileContent?.patchValue(content);
+        fileContent?.enable();
+      });
+  }
 }
 
 export interface CredentialEditionDialogData {
@@ -68,6 +68,7 @@ export class LoginComponent {
         .subscribe({
           next: (response) => {
             this.utilMethods.setJwtToken(response.data.access_token);
+            this.utilMethods.setRefreshToken(response.data.refresh_token);
             this.router.navigate([this.utilMethods.getUsernameFieldJwtToken()]);
           }
         });
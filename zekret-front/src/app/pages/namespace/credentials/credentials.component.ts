@@ -4,7 +4,7 @@ import { MatDialog, MatDialogModule } from '@angular/material/dialog';
 import { CredentialEditionDialogComponent } from '../../../modals/credential-edition-dialog/credential-edition-dialog.component';
 import { CredentialDetailDialogComponent } from '../../../modals/credential-detail-dialog/credential-detail-dialog.component';
 import { NamespaceResponseDTO } from '../../../_model/namespace';
-import { CredentialResponseDTO } from '../../../_model/credential';
+import { CredentialResponseDTO, CredentialSummaryDTO } from '../../../_model/credential';
 import { CredentialService } from '../../../_service/credential.service';
 import { ConfirmDeleteDialogComponent } from '../../../modals/confirm-delete-dialog/confirm-delete-dialog.component';
 import { ConfirmDeleteDataDTO } from '../../../_model/dto';
@@ -31,7 +31,7 @@ export class CredentialsComponent implements OnChanges, OnInit {
     private notificationService: NotificationService
   ) {}
 
-  currentCredentials: CredentialResponseDTO[] = [];
+  currentCredentials: CredentialSummaryDTO[] = [];
 
   ngOnInit() {
     this.credentialService.getChangeObject().subscribe({
@@ -71,17 +71,25 @@ export class CredentialsComponent implements OnChanges, OnInit {
     }
   }
 
-  openCreateCredentialDialog(credential?: CredentialResponseDTO) {
+  openCreateCredentialDialog(credential?: CredentialSummaryDTO) {
+    if (!credential) {
+      this.openEditionDialog(null);
+      return;
+    }
+    this.loadCredentialDetail(credential, (detail) => this.openEditionDialog(detail));
+  }
+
+  private openEditionDialog(credential: CredentialResponseDTO | null) {
     this.dialog.open(CredentialEditionDialogComponent, {
       width: '500px',
       data: { 
         namespace: this.selectedNamespace, 
-        credential: credential || null 
+        credential: credential 
       }
     });
   }
 
-  deleteCredential(credential: CredentialResponseDTO) {
+  deleteCredential(credential: CredentialSummaryDTO) {
     const dialogData: ConfirmDeleteDataDTO = {
       title: 'Confirmar eliminación',
       message: `¿Estás seguro de que deseas eliminar la credencial "${credential.title}"? Esta acción no se puede deshacer.`,
@@ -101,14 +109,35 @@ export class CredentialsComponent implements OnChanges, OnInit {
     });
   }
 
-  onCredentialClick(credential: CredentialResponseDTO) {
-    this.dialog.open(CredentialDetailDialogComponent, {
-      width: '700px',
-      data: credential
+  onCredentialClick(credential: CredentialSummaryDTO) {
+    this.loadCredentialDetail(credential, (detail) => {
+      this.dialog.open(CredentialDetailDialogComponent, {
+        width: '700px',
+        data: detail
+      });
     });
   }
 
-  private confirmDeleteNamespace(credencial: CredentialResponseDTO) {
+  // The list only carries summaries, the secrets are fetched when a credential is opened
+  private loadCredentialDetail(credential: CredentialSummaryDTO, open: (detail: CredentialResponseDTO) => void) {
+    this.isLoading = true;
+    this.credentialService.getDetailByZrn(credential.zrn)
+      .pipe(
+        finalize(() => {
+          this.isLoading = false;
+        })
+      )
+      .subscribe({
+        next: (response) => open(response.data),
+        error: (error) => {
+          this.notificationService.setMessageChange(
+            Message.error('Error al obtener la credencial', error)
+          );
+        }
+      });
+  }
+
+  private confirmDeleteNamespace(credencial: CredentialSummaryDTO) {
     this.isLoading = true;
     this.credentialService.deleteByZrn(credencial.zrn)
       .pipe(
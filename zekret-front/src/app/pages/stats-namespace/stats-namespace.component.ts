@@ -22,7 +22,7 @@ export class StatsNamespaceComponent {
   ngOnInit(): void {
     this.namespaceService.getChangeObject().subscribe(namespaces => {
       this.totalNamespaces = namespaces.length;
-      this.totalCredentials = namespaces.reduce((sum, ns) => sum + (ns.credentials ? ns.credentials.length : 0), 0);
+      this.totalCredentials = namespaces.reduce((sum, ns) => sum + (ns.credentialCount ?? ns.credentials?.length ?? 0), 0);
     });
   }
 
@@ -76,6 +76,14 @@ export class UtilMethods {
         sessionStorage.removeItem(this.envService.getTokenName());
     }
 
+    public getRefreshToken(): string {
+        return sessionStorage.getItem(this.envService.getRefreshTokenName());
+    }
+
+    public setRefreshToken(token: string): void {
+        sessionStorage.setItem(this.envService.getRefreshTokenName(), token);
+    }
+
     // Métodos estáticos para compatibilidad hacia atrás (opcional)
     public static getInstance(): UtilMethods {
         // Este método requiere que se inyecte el servicio donde se use
@@ -0,0 +1,44 @@
+package com.zekret.loadtest;
+
+import java.net.http.HttpRequest;
+
+/**
+ * Differences between the two backends for the flows in zekret-collection.
+ * Namespace and credential paths are shared; login, registration payloads,
+ * credential payloads and the readiness probe are not.
+ */
+public interface BackendAdapter {
+
+    String name();
+
+    /**
+     * Path that answers 200 once the backend is ready to serve traffic
+     */
+    String healthPath();
+
+    HttpRequest.Builder register(String baseUrl, String email, String username, String password);
+
+    HttpRequest.Builder login(String baseUrl, String username, String password);
+
+    /**
+     * JSON body for POST /v1/credentials and PUT /v1/credentials/{zrn};
+     * fileContent is null for credentials without an attached file
+     */
+    String credentialBody(String title, String namespaceZrn, String credentialTypeZrn, String fileContent);
+
+    /**
+     * Path that takes the file of a credential as raw bytes, or null when the
+     * file travels inline in the credential body
+     */
+    default String filePath(String credentialZrn) {
+        return null;
+    }
+
+    static BackendAdapter forName(String name) {
+        return switch (name) {
+            case "spring" -> new SpringAdapter();
+            case "quarkus" -> new QuarkusAdapter();
+            default -> throw new IllegalArgumentException("Unknown backend '" + name + "', expected spring or quarkus");
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.zekret.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional handle on the backend JVM/native process: launches it to measure
+ * startup time (until the readiness probe answers 200) and samples its RSS.
+ */
+class BackendProcess implements AutoCloseable {
+
+    private final Process process;
+    private final long pid;
+    private final AtomicLong peakRssKb = new AtomicLong();
+    private ScheduledExecutorService sampler;
+
+    private BackendProcess(Process process, long pid) {
+        this.process = process;
+        this.pid = pid;
+    }
+
+    /**
+     * Start the command and block until the health path answers 200
+     *
+     * @return the process and the measured startup time
+     */
+    static Launched launch(String command, String healthUrl, Path logFile, Duration timeout) throws IOException, InterruptedException {
+        // exec so the measured pid is the backend itself and not the shell
+        ProcessBuilder builder = new ProcessBuilder("/bin/sh", "-c", "exec " + command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        long start = System.nanoTime();
+        Process process = builder.start();
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(healthUrl)).timeout(Duration.ofSeconds(1)).GET().build();
+        long deadline = start + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Backend exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    Duration startup = Duration.ofNanos(System.nanoTime() - start);
+                    return new Launched(new BackendProcess(process, process.pid()), startup);
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(50);
+        }
+        process.destroyForcibly();
+        throw new IllegalStateException("Backend not ready after " + timeout.toSeconds() + "s, see " + logFile);
+    }
+
+    /**
+     * Attach to an already running backend to sample its RSS only
+     */
+    static BackendProcess attach(long pid) {
+        return new BackendProcess(null, pid);
+    }
+
+    long rssKb() {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        try {
+            if (Files.isReadable(status)) {
+                for (String line : Files.readAllLines(status)) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                    }
+                }
+            }
+            // macOS and other systems without procfs
+            Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid))
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            String out = new String(ps.getInputStream().readAllBytes()).trim();
+            return out.isEmpty() ? 0 : Long.parseLong(out);
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    void startSampling() {
+        peakRssKb.set(rssKb());
+        sampler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "rss-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleAtFixedRate(() -> peakRssKb.accumulateAndGet(rssKb(), Math::max), 250, 250, TimeUnit.MILLISECONDS);
+    }
+
+    long stopSampling() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+        return peakRssKb.get();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        stopSampling();
+        if (process != null) {
+            process.destroy();
+            if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    record Launched(BackendProcess process, Duration startup) {
+    }
+}
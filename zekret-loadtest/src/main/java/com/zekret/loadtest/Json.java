@@ -0,0 +1,47 @@
+package com.zekret.loadtest;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal JSON helpers so the harness has no dependencies. Only reads the
+ * string fields the flows need (access_token, zrn) from API responses.
+ */
+final class Json {
+
+    private Json() {
+    }
+
+    static String quote(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * Inline fileName and fileContent members of a credential body, or nothing when there is no file
+     */
+    static String fileFields(String fileContent) {
+        if (fileContent == null) {
+            return "";
+        }
+        return ",\"fileName\":\"payload.txt\",\"fileContent\":" + quote(fileContent);
+    }
+
+    /**
+     * First string value of the given field anywhere in the document, or null
+     */
+    static String stringField(String body, String field) {
+        Matcher matcher = Pattern.compile("\"" + Pattern.quote(field) + "\"\\s*:\\s*\"([^\"]*)\"").matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
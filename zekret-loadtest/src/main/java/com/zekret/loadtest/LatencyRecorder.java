@@ -0,0 +1,80 @@
+package com.zekret.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects raw per-request latencies by operation. Samples are kept exactly
+ * (no bucketing) so p50/p99 are comparable between runs and backends.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> byOperation = new ConcurrentHashMap<>();
+
+    void record(String operation, long nanos, boolean ok) {
+        byOperation.computeIfAbsent(operation, k -> new Samples()).add(nanos, ok);
+    }
+
+    /**
+     * Summary per operation, sorted by operation name
+     */
+    Map<String, OperationStats> snapshot(double elapsedSeconds) {
+        Map<String, OperationStats> stats = new TreeMap<>();
+        byOperation.forEach((operation, samples) -> stats.put(operation, samples.stats(elapsedSeconds)));
+        return stats;
+    }
+
+    /**
+     * Summary across every operation
+     */
+    OperationStats overall(double elapsedSeconds) {
+        Samples all = new Samples();
+        byOperation.values().forEach(samples -> samples.copyInto(all));
+        return all.stats(elapsedSeconds);
+    }
+
+    record OperationStats(long count, long errors, double throughput, double p50Millis, double p99Millis) {
+    }
+
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long nanos, boolean ok) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized void copyInto(Samples target) {
+            for (int i = 0; i < size; i++) {
+                target.add(values[i], true);
+            }
+            synchronized (target) {
+                target.errors += errors;
+            }
+        }
+
+        synchronized OperationStats stats(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return new OperationStats(size, errors, size / elapsedSeconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.zekret.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Replays the zekret-collection flows against zekret-back and/or
+ * zekret-back-quarkus with the same load and prints throughput, p50/p99
+ * latency, RSS and startup time side by side.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            if (!e.getMessage().isEmpty()) {
+                System.err.println(e.getMessage());
+            }
+            System.err.print(Options.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        List<RunResult> results = new ArrayList<>();
+        for (var target : options.targets().entrySet()) {
+            results.add(run(target.getKey(), target.getValue(), options));
+        }
+        System.out.println();
+        Report.print(results, System.out);
+    }
+
+    private static RunResult run(String name, String baseUrl, Options options) throws Exception {
+        BackendAdapter adapter = BackendAdapter.forName(name);
+        log(name, "target " + baseUrl);
+
+        BackendProcess process = null;
+        Duration startup = null;
+        String launchCommand = options.launchCommands().get(name);
+        if (launchCommand != null) {
+            log(name, "launching: " + launchCommand);
+            BackendProcess.Launched launched = BackendProcess.launch(launchCommand, baseUrl + adapter.healthPath(),
+                    options.logDir().resolve(name + ".log"), options.startupTimeout());
+            process = launched.process();
+            startup = launched.startup();
+            log(name, "ready in " + startup.toMillis() + " ms");
+        } else if (options.pids().containsKey(name)) {
+            process = BackendProcess.attach(options.pids().get(name));
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.users());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            long idleRss = process != null ? process.rssKb() : 0;
+
+            // Unique users per run so repeated runs against the same database do not collide
+            String runId = Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36);
+            LatencyRecorder setupRecorder = new LatencyRecorder();
+            List<VirtualUser> users = new ArrayList<>();
+            for (int i = 0; i < options.users(); i++) {
+                users.add(new VirtualUser(client, adapter, baseUrl, setupRecorder, "lt" + runId + "u" + i));
+            }
+            log(name, "seeding " + options.users() + " users x " + options.credentialsPerUser() + " credentials");
+            String fileContent = options.fileSize() > 0 ? "x".repeat(options.fileSize()) : null;
+            invokeAll(workers, users, user -> user.setUp(options.credentialsPerUser(), options.credentialTypeZrn(), fileContent));
+
+            log(name, "warm-up " + options.warmup().toSeconds() + "s");
+            drive(workers, users, new LatencyRecorder(), options.warmup());
+
+            log(name, "measuring " + options.duration().toSeconds() + "s");
+            LatencyRecorder recorder = new LatencyRecorder();
+            if (process != null) {
+                process.startSampling();
+            }
+            double elapsed = drive(workers, users, recorder, options.duration());
+            long peakRss = process != null ? process.stopSampling() : 0;
+
+            invokeAll(workers, users, VirtualUser::tearDown);
+
+            return new RunResult(name, startup, idleRss, peakRss, recorder.overall(elapsed), recorder.snapshot(elapsed));
+        } finally {
+            workers.shutdownNow();
+            if (process != null && launchCommand != null) {
+                process.close();
+            }
+        }
+    }
+
+    /**
+     * Run every user in a closed loop until the duration elapses
+     *
+     * @return the actual elapsed seconds
+     */
+    private static double drive(ExecutorService workers, List<VirtualUser> users, LatencyRecorder recorder, Duration duration)
+            throws Exception {
+        users.forEach(user -> user.recordInto(recorder));
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        invokeAll(workers, users, user -> {
+            while (System.nanoTime() < deadline) {
+                try {
+                    user.step();
+                } catch (IOException e) {
+                    // Already recorded as an error; keep the load going
+                }
+            }
+        });
+        return (System.nanoTime() - start) / 1_000_000_000.0;
+    }
+
+    private static void invokeAll(ExecutorService workers, List<VirtualUser> users, UserTask task) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (VirtualUser user : users) {
+            futures.add(workers.submit(() -> {
+                task.run(user);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static void log(String backend, String message) {
+        System.out.println("[" + backend + "] " + message);
+    }
+
+    @FunctionalInterface
+    private interface UserTask {
+        void run(VirtualUser user) throws Exception;
+    }
+}
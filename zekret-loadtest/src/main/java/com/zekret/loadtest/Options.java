@@ -0,0 +1,109 @@
+package com.zekret.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line options. Backends are given as name=value pairs so several
+ * can be compared in one run, e.g. --target spring=http://localhost:8080
+ */
+record Options(
+        Map<String, String> targets,
+        Map<String, String> launchCommands,
+        Map<String, Long> pids,
+        int users,
+        Duration warmup,
+        Duration duration,
+        int credentialsPerUser,
+        String credentialTypeZrn,
+        int fileSize,
+        Duration startupTimeout,
+        Path logDir) {
+
+    static final String USAGE = """
+            Usage: java -jar zekret-loadtest.jar --target <spring|quarkus>=<baseUrl> [--target ...] [options]
+
+              --target name=url        Backend to load; repeat to compare side by side
+              --launch name=command    Start the backend with this command to measure startup time and RSS
+              --pid name=pid           Sample RSS of an already running backend
+              --users N                Concurrent virtual users (default 20)
+              --warmup S               Warm-up seconds, not reported (default 15)
+              --duration S             Measured seconds (default 60)
+              --credentials N          Credentials seeded per user (default 20)
+              --credential-type ZRN    Credential type used for seeding (default username_password)
+              --file-size BYTES        Attach a file of this size to every credential, e.g. 1048576 (default 0, none)
+              --startup-timeout S      Seconds to wait for a launched backend (default 120)
+              --log-dir DIR            Where launched backends write their output (default .)
+            """;
+
+    static Options parse(String[] args) {
+        Map<String, String> targets = new LinkedHashMap<>();
+        Map<String, String> launch = new LinkedHashMap<>();
+        Map<String, Long> pids = new LinkedHashMap<>();
+        int users = 20;
+        int warmup = 15;
+        int duration = 60;
+        int credentials = 20;
+        String credentialType = "username_password";
+        int fileSize = 0;
+        int startupTimeout = 120;
+        String logDir = ".";
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--help") || arg.equals("-h")) {
+                throw new IllegalArgumentException("");
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--target" -> put(targets, value);
+                case "--launch" -> put(launch, value);
+                case "--pid" -> {
+                    String[] pair = pair(value);
+                    pids.put(pair[0], Long.parseLong(pair[1]));
+                }
+                case "--users" -> users = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--duration" -> duration = Integer.parseInt(value);
+                case "--credentials" -> credentials = Integer.parseInt(value);
+                case "--credential-type" -> credentialType = value;
+                case "--file-size" -> fileSize = Integer.parseInt(value);
+                case "--startup-timeout" -> startupTimeout = Integer.parseInt(value);
+                case "--log-dir" -> logDir = value;
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("At least one --target is required");
+        }
+        if (credentials < 1) {
+            throw new IllegalArgumentException("--credentials must be at least 1");
+        }
+        if (fileSize < 0) {
+            throw new IllegalArgumentException("--file-size must not be negative");
+        }
+        targets.keySet().forEach(BackendAdapter::forName);
+
+        return new Options(targets, launch, pids, users, Duration.ofSeconds(warmup), Duration.ofSeconds(duration),
+                credentials, credentialType, fileSize, Duration.ofSeconds(startupTimeout), Path.of(logDir));
+    }
+
+    private static void put(Map<String, String> map, String value) {
+        String[] pair = pair(value);
+        map.put(pair[0], pair[1]);
+    }
+
+    private static String[] pair(String value) {
+        int eq = value.indexOf('=');
+        if (eq <= 0 || eq == value.length() - 1) {
+            throw new IllegalArgumentException("Expected name=value but got '" + value + "'");
+        }
+        return new String[] { value.substring(0, eq), value.substring(eq + 1) };
+    }
+}
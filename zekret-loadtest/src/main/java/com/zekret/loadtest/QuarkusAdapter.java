@@ -0,0 +1,55 @@
+package com.zekret.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * zekret-back-quarkus: login takes query parameters, credentials reference
+ * their namespace and type by flat ZRN fields and files are uploaded separately.
+ */
+public class QuarkusAdapter implements BackendAdapter {
+
+    @Override
+    public String name() {
+        return "quarkus";
+    }
+
+    @Override
+    public String healthPath() {
+        return "/v1/health/ready";
+    }
+
+    @Override
+    public HttpRequest.Builder register(String baseUrl, String email, String username, String password) {
+        String body = "{\"email\":" + Json.quote(email)
+                + ",\"username\":" + Json.quote(username)
+                + ",\"password\":" + Json.quote(password) + "}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/v1/users/register"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body));
+    }
+
+    @Override
+    public HttpRequest.Builder login(String baseUrl, String username, String password) {
+        String query = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/v1/auth/login?" + query)).GET();
+    }
+
+    @Override
+    public String credentialBody(String title, String namespaceZrn, String credentialTypeZrn, String fileContent) {
+        return "{\"title\":" + Json.quote(title)
+                + ",\"username\":\"admin\",\"password\":\"s3cr3t\",\"notes\":\"load test\""
+                + (fileContent != null ? ",\"fileName\":\"payload.txt\"" : "")
+                + ",\"credentialTypeZrn\":" + Json.quote(credentialTypeZrn)
+                + ",\"namespaceZrn\":" + Json.quote(namespaceZrn) + "}";
+    }
+
+    @Override
+    public String filePath(String credentialZrn) {
+        return "/v1/credentials/" + credentialZrn + "/file";
+    }
+}
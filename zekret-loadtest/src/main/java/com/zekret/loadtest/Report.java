@@ -0,0 +1,77 @@
+package com.zekret.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import com.zekret.loadtest.LatencyRecorder.OperationStats;
+
+/**
+ * Prints the results of every backend side by side, one column per backend.
+ */
+final class Report {
+
+    private static final String NOT_MEASURED = "-";
+
+    private Report() {
+    }
+
+    static void print(List<RunResult> results, PrintStream out) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(row("metric", results, RunResult::backend));
+        rows.add(row("startup (ms)", results, r -> r.startup() == null ? NOT_MEASURED : Long.toString(r.startup().toMillis())));
+        rows.add(row("RSS idle (MB)", results, r -> megabytes(r.idleRssKb())));
+        rows.add(row("RSS peak (MB)", results, r -> megabytes(r.peakRssKb())));
+        rows.add(row("throughput (req/s)", results, r -> String.format("%.1f", r.overall().throughput())));
+        rows.add(row("requests", results, r -> Long.toString(r.overall().count())));
+        rows.add(row("errors", results, r -> Long.toString(r.overall().errors())));
+        rows.add(row("all p50 (ms)", results, r -> millis(r.overall().p50Millis())));
+        rows.add(row("all p99 (ms)", results, r -> millis(r.overall().p99Millis())));
+
+        Set<String> operations = new TreeSet<>();
+        results.forEach(r -> operations.addAll(r.operations().keySet()));
+        for (String operation : operations) {
+            rows.add(row(operation + " p50 (ms)", results, r -> stat(r, operation, OperationStats::p50Millis)));
+            rows.add(row(operation + " p99 (ms)", results, r -> stat(r, operation, OperationStats::p99Millis)));
+        }
+
+        int[] widths = new int[rows.get(0).length];
+        for (String[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                widths[i] = Math.max(widths[i], row[i].length());
+            }
+        }
+        for (String[] row : rows) {
+            StringBuilder line = new StringBuilder(String.format("%-" + widths[0] + "s", row[0]));
+            for (int i = 1; i < row.length; i++) {
+                line.append("  ").append(String.format("%" + widths[i] + "s", row[i]));
+            }
+            out.println(line);
+        }
+    }
+
+    private static String[] row(String label, List<RunResult> results, Function<RunResult, String> value) {
+        String[] row = new String[results.size() + 1];
+        row[0] = label;
+        for (int i = 0; i < results.size(); i++) {
+            row[i + 1] = value.apply(results.get(i));
+        }
+        return row;
+    }
+
+    private static String stat(RunResult result, String operation, Function<OperationStats, Double> value) {
+        OperationStats stats = result.operations().get(operation);
+        return stats == null ? NOT_MEASURED : millis(value.apply(stats));
+    }
+
+    private static String megabytes(long kb) {
+        return kb == 0 ? NOT_MEASURED : String.format("%.1f", kb / 1024.0);
+    }
+
+    private static String millis(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,19 @@
+package com.zekret.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+import com.zekret.loadtest.LatencyRecorder.OperationStats;
+
+/**
+ * Measurements of one backend. startup and the RSS figures are null/0 when
+ * the backend was neither launched nor attached by pid.
+ */
+record RunResult(
+        String backend,
+        Duration startup,
+        long idleRssKb,
+        long peakRssKb,
+        OperationStats overall,
+        Map<String, OperationStats> operations) {
+}
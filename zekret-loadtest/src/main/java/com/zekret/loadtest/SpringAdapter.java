@@ -0,0 +1,50 @@
+package com.zekret.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+
+/**
+ * zekret-back: login is a JSON POST and credentials reference their namespace
+ * and type as nested objects.
+ */
+public class SpringAdapter implements BackendAdapter {
+
+    @Override
+    public String name() {
+        return "spring";
+    }
+
+    @Override
+    public String healthPath() {
+        return "/readyz";
+    }
+
+    @Override
+    public HttpRequest.Builder register(String baseUrl, String email, String username, String password) {
+        String body = "{\"email\":" + Json.quote(email)
+                + ",\"username\":" + Json.quote(username)
+                + ",\"password\":" + Json.quote(password)
+                + ",\"enabled\":true}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/v1/users/register"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body));
+    }
+
+    @Override
+    public HttpRequest.Builder login(String baseUrl, String username, String password) {
+        String body = "{\"username\":" + Json.quote(username) + ",\"password\":" + Json.quote(password) + "}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body));
+    }
+
+    @Override
+    public String credentialBody(String title, String namespaceZrn, String credentialTypeZrn, String fileContent) {
+        return "{\"title\":" + Json.quote(title)
+                + ",\"username\":\"admin\",\"password\":\"s3cr3t\",\"notes\":\"load test\""
+                + Json.fileFields(fileContent)
+                + ",\"namespace\":{\"zrn\":" + Json.quote(namespaceZrn) + "}"
+                + ",\"credentialType\":{\"zrn\":" + Json.quote(credentialTypeZrn) + "}}";
+    }
+}
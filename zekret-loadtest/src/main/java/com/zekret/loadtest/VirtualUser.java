@@ -0,0 +1,137 @@
+package com.zekret.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One simulated client replaying the zekret-collection flows:
+ * createUser, loginUser, createNamespace and createCredential as setup,
+ * then a read-heavy mix of the get/update requests until the run ends, then logout.
+ */
+class VirtualUser {
+
+    private final HttpClient client;
+    private final BackendAdapter adapter;
+    private final String baseUrl;
+    private LatencyRecorder recorder;
+    private final String username;
+    private final String password = "LoadTest#2024";
+
+    private String token;
+    private String namespaceZrn;
+    private String credentialTypeZrn;
+    private String fileContent;
+    private final List<String> credentialZrns = new ArrayList<>();
+
+    VirtualUser(HttpClient client, BackendAdapter adapter, String baseUrl, LatencyRecorder recorder, String username) {
+        this.client = client;
+        this.adapter = adapter;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.username = username;
+    }
+
+    /**
+     * Register (ignored if the user already exists), log in and seed one namespace with its credentials
+     */
+    void setUp(int credentials, String credentialTypeZrn, String fileContent) throws IOException, InterruptedException {
+        this.credentialTypeZrn = credentialTypeZrn;
+        this.fileContent = fileContent;
+        send("createUser", adapter.register(baseUrl, username + "@loadtest.zekret", username, password));
+
+        HttpResponse<String> login = send("loginUser", adapter.login(baseUrl, username, password));
+        token = Json.stringField(login.body(), "access_token");
+        if (token == null) {
+            throw new IllegalStateException("Login failed for " + username + ": HTTP " + login.statusCode() + " " + login.body());
+        }
+
+        String namespaceBody = "{\"name\":" + Json.quote("ns-" + username) + ",\"description\":\"Load test namespace\"}";
+        HttpResponse<String> namespace = send("createNamespace", authorized("/v1/namespaces").POST(BodyPublishers.ofString(namespaceBody)));
+        namespaceZrn = Json.stringField(namespace.body(), "zrn");
+        if (namespaceZrn == null) {
+            throw new IllegalStateException("Namespace creation failed: HTTP " + namespace.statusCode() + " " + namespace.body());
+        }
+
+        for (int i = 0; i < credentials; i++) {
+            String body = adapter.credentialBody("cred-" + i, namespaceZrn, credentialTypeZrn, fileContent);
+            HttpResponse<String> credential = send("createCredential", authorized("/v1/credentials").POST(BodyPublishers.ofString(body)));
+            String zrn = Json.stringField(credential.body(), "zrn");
+            if (zrn == null) {
+                throw new IllegalStateException("Credential creation failed: HTTP " + credential.statusCode() + " " + credential.body());
+            }
+            credentialZrns.add(zrn);
+            uploadFile(zrn);
+        }
+    }
+
+    /**
+     * One request from the steady-state mix
+     */
+    void step() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String credentialZrn = credentialZrns.get(random.nextInt(credentialZrns.size()));
+        int roll = random.nextInt(100);
+        if (roll < 30) {
+            send("getCredentialByNamespaceZRN", authorized("/v1/credentials/namespace/" + namespaceZrn).GET());
+        } else if (roll < 50) {
+            send("getCredentialByZRN", authorized("/v1/credentials/" + credentialZrn).GET());
+        } else if (roll < 70) {
+            send("getNamespaces", authorized("/v1/namespaces").GET());
+        } else if (roll < 80) {
+            send("getNamespaceByZRN", authorized("/v1/namespaces/" + namespaceZrn).GET());
+        } else if (roll < 90) {
+            send("getCredentials", authorized("/v1/credentials").GET());
+        } else {
+            String body = adapter.credentialBody("cred-" + random.nextInt(1_000_000), namespaceZrn, credentialTypeZrn, fileContent);
+            send("updateCredential", authorized("/v1/credentials/" + credentialZrn).PUT(BodyPublishers.ofString(body)));
+        }
+    }
+
+    private void uploadFile(String credentialZrn) throws IOException, InterruptedException {
+        String path = adapter.filePath(credentialZrn);
+        if (fileContent == null || path == null) {
+            return;
+        }
+        send("uploadFile", authorized(path)
+                .setHeader("Content-Type", "application/octet-stream")
+                .PUT(BodyPublishers.ofString(fileContent)));
+    }
+
+    /**
+     * Switch the recorder, e.g. to discard warm-up samples
+     */
+    void recordInto(LatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    void tearDown() throws IOException, InterruptedException {
+        send("logout", authorized("/v1/auth/logout").GET());
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpResponse<String> send(String operation, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.record(operation, System.nanoTime() - start, false);
+            throw e;
+        }
+        int status = response.statusCode();
+        recorder.record(operation, System.nanoTime() - start, status >= 200 && status < 300);
+        return response;
+    }
+}